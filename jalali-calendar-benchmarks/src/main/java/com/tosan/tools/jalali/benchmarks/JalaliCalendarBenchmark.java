@@ -0,0 +1,118 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliCalendar;
+import com.tosan.tools.jalali.JalaliDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the constructors and the field operations of {@link JalaliCalendar}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliCalendarBenchmark {
+    private Date date;
+    private JalaliDate jalaliDate;
+    private Calendar calendar;
+    private TimeZone desTimeZone;
+    private JalaliCalendar jalaliCalendar;
+    private JalaliCalendar reusedCalendar;
+    private long millis;
+
+    @Setup
+    public void setup() {
+        date = new Date(1711000000000L);
+        jalaliDate = new JalaliDate(1403, 1, 15, 10, 20, 30);
+        calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        desTimeZone = TimeZone.getTimeZone("Asia/Tehran");
+        jalaliCalendar = new JalaliCalendar(jalaliDate);
+        reusedCalendar = new JalaliCalendar(date);
+        millis = date.getTime();
+    }
+
+    @Benchmark
+    public JalaliCalendar newFromDate() {
+        return new JalaliCalendar(date);
+    }
+
+    @Benchmark
+    public JalaliCalendar newFromDateWithTimeZone() {
+        return new JalaliCalendar(date, desTimeZone);
+    }
+
+    @Benchmark
+    public JalaliCalendar newFromJalaliDate() {
+        return new JalaliCalendar(jalaliDate);
+    }
+
+    @Benchmark
+    public JalaliCalendar newFromCalendar() {
+        return new JalaliCalendar(calendar);
+    }
+
+    @Benchmark
+    public int getDateFields() {
+        return jalaliCalendar.get(Calendar.YEAR) + jalaliCalendar.get(Calendar.MONTH)
+                + jalaliCalendar.get(Calendar.DAY_OF_MONTH);
+    }
+
+    @Benchmark
+    public int reuseWithSetTimeInMillis() {
+        millis += 60000;
+        reusedCalendar.setTimeInMillis(millis);
+        return reusedCalendar.get(Calendar.YEAR) + reusedCalendar.get(Calendar.MONTH)
+                + reusedCalendar.get(Calendar.DAY_OF_MONTH) + reusedCalendar.get(Calendar.HOUR_OF_DAY);
+    }
+
+    @Benchmark
+    public int addDayOfMonth() {
+        jalaliCalendar.add(Calendar.DAY_OF_MONTH, 40);
+        jalaliCalendar.add(Calendar.DAY_OF_MONTH, -40);
+        return jalaliCalendar.get(Calendar.DAY_OF_MONTH);
+    }
+
+    @Benchmark
+    public int addManyDays() {
+        jalaliCalendar.add(Calendar.DAY_OF_MONTH, 100000);
+        jalaliCalendar.add(Calendar.DAY_OF_MONTH, -100000);
+        return jalaliCalendar.get(Calendar.DAY_OF_MONTH);
+    }
+
+    @Benchmark
+    public int addMonth() {
+        jalaliCalendar.add(Calendar.MONTH, 5);
+        jalaliCalendar.add(Calendar.MONTH, -5);
+        return jalaliCalendar.get(Calendar.MONTH);
+    }
+
+    @Benchmark
+    public int addHour() {
+        jalaliCalendar.add(Calendar.HOUR_OF_DAY, 30);
+        jalaliCalendar.add(Calendar.HOUR_OF_DAY, -30);
+        return jalaliCalendar.get(Calendar.HOUR_OF_DAY);
+    }
+
+    @Benchmark
+    public JalaliCalendar rollDayOfMonth() {
+        jalaliCalendar.roll(Calendar.DAY_OF_MONTH, true);
+        return jalaliCalendar;
+    }
+
+    @Benchmark
+    public JalaliCalendar rollMonth() {
+        jalaliCalendar.roll(Calendar.MONTH, true);
+        return jalaliCalendar;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliClock;
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliDay;
+import com.tosan.tools.jalali.JalaliUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the current jalali day and date of {@link JalaliClock} against the conversion of the current
+ * {@link Date} by {@link JalaliUtil}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliClockBenchmark {
+    private JalaliClock clock;
+
+    @Setup
+    public void setup() {
+        clock = JalaliClock.systemDefaultZone();
+    }
+
+    @Benchmark
+    public JalaliDay today() {
+        return clock.today();
+    }
+
+    @Benchmark
+    public JalaliDate now() {
+        return clock.now();
+    }
+
+    @Benchmark
+    public JalaliDate gregorianToJalaliOfNow() {
+        return JalaliUtil.gregorianToJalali(new Date());
+    }
+}
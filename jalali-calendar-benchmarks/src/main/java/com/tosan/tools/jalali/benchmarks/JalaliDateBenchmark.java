@@ -0,0 +1,54 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the formatting and ordering of {@link JalaliDate}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliDateBenchmark {
+    private JalaliDate first;
+    private JalaliDate second;
+    private StringBuilder sb;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        first = new JalaliDate(1403, 1, 15, 10, 20, 30);
+        second = new JalaliDate(1403, 1, 15, 10, 20, 31);
+        sb = new StringBuilder(64);
+        bytes = new byte[64];
+    }
+
+    @Benchmark
+    public String toStringFormat() {
+        return first.toString();
+    }
+
+    @Benchmark
+    public int appendTo() {
+        sb.setLength(0);
+        return first.appendTo(sb).length();
+    }
+
+    @Benchmark
+    public int writeAscii() {
+        return first.writeAscii(bytes, 0);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return first.compareTo(second);
+    }
+}
@@ -0,0 +1,43 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliDateParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the fixed layout parsing of {@link JalaliDateParser}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliDateParserBenchmark {
+    private String dateText;
+    private byte[] dateTimeBytes;
+    private JalaliDate target;
+
+    @Setup
+    public void setup() {
+        dateText = "1403/01/15";
+        dateTimeBytes = "1403-01-15 10:20:30".getBytes(StandardCharsets.US_ASCII);
+        target = new JalaliDate();
+    }
+
+    @Benchmark
+    public int parseDate() {
+        return JalaliDateParser.parseDate(dateText);
+    }
+
+    @Benchmark
+    public boolean parseDateTimeBytes() {
+        return JalaliDateParser.parseDateTime(dateTimeBytes, 0, dateTimeBytes.length, target);
+    }
+}
@@ -0,0 +1,53 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliCalendar;
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliDateRange;
+import com.tosan.tools.jalali.JalaliDay;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks iterating the days of ten years by {@link JalaliDateRange} against stepping a {@link JalaliCalendar}
+ * by {@link Calendar#add(int, int)}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliDateRangeBenchmark {
+    private JalaliDateRange range;
+
+    @Setup
+    public void setup() {
+        range = JalaliDateRange.of(JalaliDay.of(1400, 1, 1), JalaliDay.of(1410, 1, 1));
+    }
+
+    @Benchmark
+    public int calendarAdd() {
+        JalaliCalendar calendar = new JalaliCalendar(new JalaliDate(1400, 1, 1));
+        int sum = 0;
+        for (int i = 0; i < range.size(); i++) {
+            sum += calendar.get(Calendar.DAY_OF_MONTH);
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int rangeStream() {
+        return range.stream().mapToInt(JalaliDay::getDay).sum();
+    }
+
+    @Benchmark
+    public int rangeParallelStream() {
+        return range.stream().parallel().mapToInt(JalaliDay::getDay).sum();
+    }
+}
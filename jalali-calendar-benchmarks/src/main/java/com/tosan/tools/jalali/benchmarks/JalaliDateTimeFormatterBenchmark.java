@@ -0,0 +1,56 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliDateTimeFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the precompiled {@link JalaliDateTimeFormatter}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliDateTimeFormatterBenchmark {
+    private static final JalaliDateTimeFormatter FORMATTER = JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
+    private static final JalaliDateTimeFormatter PERSIAN_FORMATTER = JalaliDateTimeFormatter
+            .ofPattern("EEEE d MMMM yyyy HH:mm:ss").withLocale(new Locale("fa", "IR"));
+
+    private final StringBuilder sb = new StringBuilder(64);
+
+    private JalaliDate jalaliDate;
+
+    @Setup
+    public void setup() {
+        jalaliDate = new JalaliDate(1403, 1, 15, 10, 20, 30);
+    }
+
+    @Benchmark
+    public JalaliDate parse() {
+        return FORMATTER.parse("1403/01/15 10:20:30");
+    }
+
+    @Benchmark
+    public String format() {
+        return FORMATTER.format(jalaliDate);
+    }
+
+    @Benchmark
+    public String formatPersian() {
+        return PERSIAN_FORMATTER.format(jalaliDate);
+    }
+
+    @Benchmark
+    public StringBuilder formatPersianTo() {
+        sb.setLength(0);
+        return PERSIAN_FORMATTER.formatTo(jalaliDate, sb);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliDayCache;
+import com.tosan.tools.jalali.JalaliUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link JalaliUtil#gregorianToJalali(Date)} with and without an installed {@link JalaliDayCache},
+ * converting the instants of the last week.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliDayCacheBenchmark {
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private Date[] dates;
+
+    @Setup
+    public void setup() {
+        dates = new Date[1024];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = new Date(1711000000000L - i * 590_000L);
+        }
+        if (cached) {
+            JalaliDayCache.install(64);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        JalaliDayCache.uninstall();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public int gregorianToJalali() {
+        int sum = 0;
+        for (Date date : dates) {
+            JalaliDate jalaliDate = JalaliUtil.gregorianToJalali(date);
+            sum += jalaliDate.getDay();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,57 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliCalendar;
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliMetrics;
+import com.tosan.tools.jalali.JalaliUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions with and without the installed {@link JalaliMetrics}, to show the cost of the
+ * disabled and the enabled metrics.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliMetricsBenchmark {
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private Date gregorian;
+    private JalaliCalendar jalaliCalendar;
+
+    @Setup
+    public void setup() {
+        gregorian = new Date(1711000000000L);
+        jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 1, 15, 10, 20, 30));
+        if (enabled) {
+            JalaliMetrics.install();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        JalaliMetrics.uninstall();
+    }
+
+    @Benchmark
+    public JalaliDate gregorianToJalali() {
+        return JalaliUtil.gregorianToJalali(gregorian);
+    }
+
+    @Benchmark
+    public int calendarAdd() {
+        jalaliCalendar.add(Calendar.HOUR_OF_DAY, 1);
+        return jalaliCalendar.get(Calendar.DAY_OF_MONTH);
+    }
+}
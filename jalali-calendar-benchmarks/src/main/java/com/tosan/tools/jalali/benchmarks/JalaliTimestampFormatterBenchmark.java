@@ -0,0 +1,52 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliTimestampFormatter;
+import com.tosan.tools.jalali.JalaliUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link JalaliTimestampFormatter} stamping consecutive milliseconds, like the lines of a log, against
+ * the conversion and formatting of each instant by {@link JalaliUtil}.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliTimestampFormatterBenchmark {
+    private JalaliTimestampFormatter formatter;
+    private StringBuilder sb;
+    private byte[] bytes;
+    private long millis;
+
+    @Setup
+    public void setup() {
+        formatter = new JalaliTimestampFormatter();
+        sb = new StringBuilder(JalaliTimestampFormatter.LENGTH);
+        bytes = new byte[JalaliTimestampFormatter.LENGTH];
+        millis = 1711000000000L;
+    }
+
+    @Benchmark
+    public StringBuilder formatToStringBuilder() {
+        sb.setLength(0);
+        return formatter.format(millis++, sb);
+    }
+
+    @Benchmark
+    public int formatToBytes() {
+        return formatter.format(millis++, bytes, 0);
+    }
+
+    @Benchmark
+    public String gregorianToJalaliToString() {
+        return JalaliUtil.gregorianToJalali(new Date(millis++)).toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.tosan.tools.jalali.benchmarks;
+
+import com.tosan.tools.jalali.JalaliConverter;
+import com.tosan.tools.jalali.JalaliDate;
+import com.tosan.tools.jalali.JalaliUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the static conversion, parse and leap year methods of {@link JalaliUtil}, and the same
+ * conversions by a shared {@link JalaliConverter}.
+ * The bulk benchmarks convert a column of a million values per operation.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JalaliUtilBenchmark {
+    private Date gregorian;
+    private JalaliDate jalali;
+    private int year;
+    private int dayOfYear;
+    private long epochDay;
+    private TimeZone zone;
+    private long[] millis;
+    private int[] packed;
+    private JalaliConverter converter;
+
+    @Setup
+    public void setup() {
+        gregorian = new Date(1711000000000L);
+        jalali = new JalaliDate(1403, 1, 15, 10, 20, 30);
+        year = 1380;
+        dayOfYear = 1;
+        epochDay = -25000;
+        zone = TimeZone.getTimeZone("Asia/Tehran");
+        millis = new long[1_000_000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = 1711000000000L + i * 3_600_000L;
+        }
+        converter = new JalaliConverter();
+        packed = new int[millis.length];
+        JalaliUtil.toJalali(millis, zone, packed);
+    }
+
+    @Benchmark
+    public JalaliDate gregorianToJalali() {
+        return JalaliUtil.gregorianToJalali(gregorian);
+    }
+
+    @Benchmark
+    public Date jalaliToGregorian() {
+        return JalaliUtil.jalaliToGregorian(jalali);
+    }
+
+    @Benchmark
+    public JalaliDate converterToJalali() {
+        return converter.toJalali(gregorian);
+    }
+
+    @Benchmark
+    public Date converterToGregorian() {
+        return converter.toGregorian(jalali);
+    }
+
+    @Benchmark
+    public JalaliDate parseJalaliDate() {
+        return JalaliUtil.parseJalaliDate("1403/01/15 10:20:30", "yyyy/MM/dd HH:mm:ss");
+    }
+
+    @Benchmark
+    public boolean isLeapYear() {
+        year = year == 1500 ? 1380 : year + 1;
+        return JalaliUtil.isLeapYear(year);
+    }
+
+    @Benchmark
+    public int fromEpochDay() {
+        epochDay = epochDay == 25000 ? -25000 : epochDay + 1;
+        return JalaliUtil.fromEpochDay(epochDay);
+    }
+
+    @Benchmark
+    public long toEpochDay() {
+        dayOfYear = dayOfYear == 365 ? 1 : dayOfYear + 1;
+        return JalaliUtil.toEpochDay(1403, 1, dayOfYear);
+    }
+
+    @Benchmark
+    public int[] bulkToJalali() {
+        JalaliUtil.toJalali(millis, zone, packed);
+        return packed;
+    }
+
+    @Benchmark
+    public long[] bulkToEpochMillis() {
+        JalaliUtil.toEpochMillis(packed, zone, millis);
+        return millis;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tosan.tools.jalali;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits a bulk conversion of {@link JalaliUtil} or {@link JalaliConverter} into ranges that are converted in
+ * parallel.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+final class BulkConversionTask extends RecursiveAction {
+    private static final long serialVersionUID = 5290741528731046418L;
+
+    /**
+     * The maximum number of elements that are converted by one task.
+     */
+    static final int THRESHOLD = 1 << 14;
+
+    private final long[] millis;
+    private final int[] packed;
+    private final transient ZoneOffsetResolver resolver;
+    private final boolean toJalali;
+    private final int from;
+    private final int to;
+
+    BulkConversionTask(long[] millis, int[] packed, ZoneOffsetResolver resolver, boolean toJalali, int from, int to) {
+        this.millis = millis;
+        this.packed = packed;
+        this.resolver = resolver;
+        this.toJalali = toJalali;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            if (toJalali) {
+                JalaliUtil.toJalali(millis, resolver, packed, from, to);
+            } else {
+                JalaliUtil.toEpochMillis(packed, resolver, millis, from, to);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new BulkConversionTask(millis, packed, resolver, toJalali, from, middle),
+                new BulkConversionTask(millis, packed, resolver, toJalali, middle, to));
+    }
+}
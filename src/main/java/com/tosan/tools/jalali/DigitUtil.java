@@ -0,0 +1,117 @@
+package com.tosan.tools.jalali;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads decimal digits without allocating intermediate strings.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+final class DigitUtil {
+
+    private DigitUtil() {
+    }
+
+    /**
+     * Appends the value padded with leading zeros to the given width, like the %0nd conversion of
+     * {@link java.util.Formatter}, e.g. 7 with width 2 is appended as 07.
+     */
+    static void appendPadded(StringBuilder sb, int value, int width) {
+        long v = value;
+        if (v < 0) {
+            sb.append('-');
+            v = -v;
+            width--;
+        }
+        for (int i = width - digitCount(v); i > 0; i--) {
+            sb.append('0');
+        }
+        sb.append(v);
+    }
+
+    static void appendPadded(Appendable appendable, int value, int width) throws IOException {
+        long v = value;
+        if (v < 0) {
+            appendable.append('-');
+            v = -v;
+            width--;
+        }
+        int digitCount = digitCount(v);
+        for (int i = width - digitCount; i > 0; i--) {
+            appendable.append('0');
+        }
+        for (long divisor = power(digitCount - 1); divisor > 0; divisor /= 10) {
+            appendable.append((char) ('0' + v / divisor % 10));
+        }
+    }
+
+    /**
+     * Appends the value padded with leading zeros to the given width with the given digits from zero to nine,
+     * e.g. the Persian digits.
+     */
+    static void appendPadded(StringBuilder sb, int value, int width, char[] digits) {
+        long v = value;
+        if (v < 0) {
+            sb.append('-');
+            v = -v;
+            width--;
+        }
+        int digitCount = digitCount(v);
+        for (int i = width - digitCount; i > 0; i--) {
+            sb.append(digits[0]);
+        }
+        for (long divisor = power(digitCount - 1); divisor > 0; divisor /= 10) {
+            sb.append(digits[(int) (v / divisor % 10)]);
+        }
+    }
+
+    /**
+     * Writes the value as ascii digits padded with leading zeros to the given width.
+     *
+     * @return the index after the last written byte
+     */
+    static int writePadded(byte[] bytes, int offset, int value, int width) {
+        long v = value;
+        if (v < 0) {
+            bytes[offset++] = '-';
+            v = -v;
+            width--;
+        }
+        int digitCount = digitCount(v);
+        for (int i = width - digitCount; i > 0; i--) {
+            bytes[offset++] = '0';
+        }
+        int end = offset + digitCount;
+        for (int i = end - 1; i >= offset; i--) {
+            bytes[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        return end;
+    }
+
+    private static long power(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the value of the digit or -1 if the character is not an ascii digit
+     */
+    static int digit(int c) {
+        int value = c - '0';
+        return value >= 0 && value <= 9 ? value : -1;
+    }
+}
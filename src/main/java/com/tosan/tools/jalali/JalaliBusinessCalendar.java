@@ -0,0 +1,178 @@
+package com.tosan.tools.jalali;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Answers business-day questions over a range of jalali years in constant time, e.g. the 3rd business day after
+ * 1403/01/15. A business day is a day that is not on a weekend day, Friday by default, and is not a holiday.
+ * <p>
+ * The business days of the years are indexed once, as a bitset of the days with the number of the business days
+ * before each word of the bitset, and as the offsets of the business days in order. The holidays can be replaced by
+ * {@link #setHolidays(Collection)} at any time: the new index is built aside and published at once, so the readers
+ * are never blocked and always see either the old or the new holidays.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliBusinessCalendar {
+    private final int fromYear;
+    private final int toYear;
+    private final long startEpochDay;
+    private final int length;
+    private final Set<DayOfWeek> weekend;
+    private volatile Index index;
+
+    /**
+     * @param fromYear the first year of the calendar
+     * @param toYear   the last year of the calendar
+     * @param holidays the holidays, which may be out of the years
+     */
+    public JalaliBusinessCalendar(int fromYear, int toYear, Collection<JalaliDay> holidays) {
+        this(fromYear, toYear, holidays, EnumSet.of(DayOfWeek.FRIDAY));
+    }
+
+    /**
+     * @param fromYear the first year of the calendar
+     * @param toYear   the last year of the calendar
+     * @param holidays the holidays, which may be out of the years
+     * @param weekend  the days of the week that are not business days, e.g. Thursday and Friday
+     */
+    public JalaliBusinessCalendar(int fromYear, int toYear, Collection<JalaliDay> holidays, Set<DayOfWeek> weekend) {
+        if (fromYear < JalaliUtil.MIN_YEAR || toYear > JalaliUtil.MAX_YEAR || fromYear > toYear) {
+            throw new IllegalArgumentException("the years " + fromYear + " to " + toYear + " are not valid.");
+        }
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.startEpochDay = JalaliUtil.toEpochDay(fromYear, 1, 1);
+        this.length = (int) (JalaliUtil.toEpochDay(toYear + 1, 1, 1) - startEpochDay);
+        this.weekend = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+        this.index = new Index(holidays);
+    }
+
+    /**
+     * Replaces the holidays without blocking the readers.
+     *
+     * @param holidays the holidays, which may be out of the years
+     */
+    public void setHolidays(Collection<JalaliDay> holidays) {
+        index = new Index(holidays);
+    }
+
+    public boolean isBusinessDay(JalaliDay day) {
+        return index.isBusinessDay(offset(day, false));
+    }
+
+    /**
+     * @param day  the day
+     * @param days the number of business days, which is before the day for a negative number
+     * @return the day itself for zero, else the given number-th business day after (or before) the day
+     * @throws IllegalArgumentException if the day or the result is out of the years of the calendar
+     */
+    public JalaliDay addBusinessDays(JalaliDay day, int days) {
+        if (days == 0) {
+            return day;
+        }
+        Index index = this.index;
+        int offset = offset(day, false);
+        long rank = days > 0 ? index.rank(offset + 1) + days - 1L : index.rank(offset) + (long) days;
+        if (rank < 0 || rank >= index.businessDays.length) {
+            throw new IllegalArgumentException("the result of adding " + days + " business days to " + day
+                    + " is out of the years " + fromYear + " to " + toYear + ".");
+        }
+        return JalaliDay.ofEpochDay(startEpochDay + index.businessDays[(int) rank]);
+    }
+
+    /**
+     * @param start the first day
+     * @param end   the day after the last day, which may be the first day after the years of the calendar
+     * @return the number of business days from the start (inclusive) to the end (exclusive), which is negative if
+     * the end is before the start
+     */
+    public int businessDaysBetween(JalaliDay start, JalaliDay end) {
+        Index index = this.index;
+        return index.rank(offset(end, true)) - index.rank(offset(start, true));
+    }
+
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    public int getToYear() {
+        return toYear;
+    }
+
+    public Set<DayOfWeek> getWeekend() {
+        return Collections.unmodifiableSet(weekend);
+    }
+
+    /**
+     * @param end whether the day may be the day after the last day of the calendar
+     */
+    private int offset(JalaliDay day, boolean end) {
+        long offset = day.toEpochDay() - startEpochDay;
+        if (offset < 0 || offset > length || (offset == length && !end)) {
+            throw new IllegalArgumentException("the day " + day + " is out of the years " + fromYear + " to "
+                    + toYear + ".");
+        }
+        return (int) offset;
+    }
+
+    /**
+     * The immutable index of the business days for a set of holidays.
+     */
+    private final class Index {
+        /**
+         * The bit of the offset of a day from the start of the calendar is set when it is a business day.
+         */
+        private final long[] bits = new long[(length >>> 6) + 1];
+        /**
+         * The number of the business days before each word of the bits.
+         */
+        private final int[] ranks = new int[bits.length];
+        /**
+         * The offsets of the business days in order.
+         */
+        private final int[] businessDays;
+
+        private Index(Collection<JalaliDay> holidays) {
+            long[] holidayBits = new long[bits.length];
+            for (JalaliDay holiday : holidays) {
+                long offset = holiday.toEpochDay() - startEpochDay;
+                if (offset >= 0 && offset < length) {
+                    holidayBits[(int) (offset >>> 6)] |= 1L << offset;
+                }
+            }
+            int count = 0;
+            int[] days = new int[length];
+            for (int offset = 0; offset < length; offset++) {
+                DayOfWeek dayOfWeek = DayOfWeek.of((int) Math.floorMod(startEpochDay + offset + 3, 7L) + 1);
+                if (!weekend.contains(dayOfWeek) && (holidayBits[offset >>> 6] & (1L << offset)) == 0) {
+                    bits[offset >>> 6] |= 1L << offset;
+                    days[count++] = offset;
+                }
+            }
+            for (int i = 1; i < bits.length; i++) {
+                ranks[i] = ranks[i - 1] + Long.bitCount(bits[i - 1]);
+            }
+            businessDays = Arrays.copyOf(days, count);
+        }
+
+        private boolean isBusinessDay(int offset) {
+            return (bits[offset >>> 6] & (1L << offset)) != 0;
+        }
+
+        /**
+         * @return the number of the business days before the offset, which may be the length of the calendar
+         */
+        private int rank(int offset) {
+            return ranks[offset >>> 6] + Long.bitCount(bits[offset >>> 6] & ((1L << offset) - 1));
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.tosan.tools.jalali;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
@@ -14,15 +13,18 @@ import java.util.TimeZone;
  */
 public class JalaliCalendar extends Calendar {
     private static final long serialVersionUID = 638910237070675779L;
-    private static final byte[] GREGORIAN_DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
-    private static final byte[] JALALI_DAYS_IN_MONTH = {31, 31, 31, 31, 31, 31, 30, 30, 30, 30, 30, 29};
+    private static final long MILLIS_PER_DAY = 86400000;
 
     private final TimeZone desTimeZone;
     private final TimeZone eraTimeZone;
     private boolean calcOverflow;
     private boolean computeDesTimeZone;
-    private boolean isCalledConstructor = false;
-    private boolean isJalaliDate;
+    /**
+     * Whether the fields are in the frame of {@link #computeFields()}, rather than a local time in the era timezone
+     * given to the constructor.
+     */
+    private boolean fieldsComputed;
+    private transient TimeZone defaultTimeZone;
 
     public JalaliCalendar() {
         this(Calendar.getInstance());
@@ -53,7 +55,6 @@ public class JalaliCalendar extends Calendar {
      * @param desTimeZone destination timezone
      */
     private JalaliCalendar(JalaliDate jalaliDate, TimeZone eraTimeZone, TimeZone desTimeZone) {
-        isJalaliDate = true;
         fields[1] = jalaliDate.getYear();
         fields[2] = jalaliDate.getMonth();
         fields[5] = jalaliDate.getDay();
@@ -66,6 +67,7 @@ public class JalaliCalendar extends Calendar {
             this.desTimeZone = TimeZone.getDefault();
         else
             this.desTimeZone = desTimeZone;
+        setTimeZone(this.desTimeZone);
         if (fields[13] > 59) {
             int remainedSecond = fields[13] - 59;
             fields[13] = 59;
@@ -138,8 +140,6 @@ public class JalaliCalendar extends Calendar {
      * @param desTimeZone destination timezone
      */
     public JalaliCalendar(Date date, TimeZone eraTimeZone, TimeZone desTimeZone) {
-        isJalaliDate = false;
-        isCalledConstructor = true;
         if (eraTimeZone == null)
             this.eraTimeZone = TimeZone.getDefault();
         else
@@ -148,6 +148,7 @@ public class JalaliCalendar extends Calendar {
             this.desTimeZone = TimeZone.getDefault();
         else
             this.desTimeZone = desTimeZone;
+        setTimeZone(this.desTimeZone);
         setTime(date);
     }
 
@@ -174,272 +175,166 @@ public class JalaliCalendar extends Calendar {
      * Returns the jalali calendar as a {@link JalaliDate} object.
      */
     public JalaliDate getJalaliDate() {
-        convertToJalaliDate();
         return new JalaliDate(get(Calendar.YEAR), get(Calendar.MONTH) + 1, get(Calendar.DAY_OF_MONTH),
                 get(Calendar.HOUR_OF_DAY), get(Calendar.MINUTE), get(Calendar.SECOND));
     }
 
-    private void convertToJalaliDate() {
-        if (!isJalaliDate) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.set(fields[1], fields[2], fields[5], fields[11], fields[12], fields[13]);
-            Calendar resultCalendar;
-            if (computeDesTimeZone) {
-                resultCalendar = Calendar.getInstance();
-            } else {
-                resultCalendar = Calendar.getInstance(this.desTimeZone);
-            }
-            resultCalendar.setTime(calendar.getTime());
-            convert(resultCalendar);
-            isJalaliDate = true;
-            this.setTimeZone(desTimeZone);
-        }
-    }
-
     /**
-     * Returns the Gregorian date and time as a {@link Calendar} object.
+     * Returns the instant of the fields, which are a local time in the era timezone, shifted by the difference
+     * of the destination timezone and the default timezone. The time fields that are zero in this calendar are
+     * cleared in the destination timezone, e.g. an hour of zero is kept as midnight of the destination timezone.
+     * The fields that were computed from the time and then changed are converted back in the frame of
+     * {@link #computeFields()} instead, so that a change of a field does not shift the other fields.
      *
-     * @return {@link Calendar}
+     * @return milliseconds since 1970/01/01 00:00:00 UTC
      */
-    private Calendar getCalendar() {
-        Calendar calendar = Calendar.getInstance();
-        if (fields[1] == 0 || fields[2] == 0 || fields[5] == 0) {
-            if (fields[1] == 0) {
-                fields[1] = getMinimum(Calendar.YEAR);
-            }
-            if (fields[2] == 0) {
-                fields[2] = 1;
-            }
-            if (fields[5] == 0) {
-                fields[5] = 1;
-            }
-        }
-        int[] result = jalaliToGregorian(fields[1], fields[2], fields[5]);
-        calendar.set(result[0], result[1] - 1, result[2], fields[11], fields[12], fields[13]);
-        calendar.setTimeZone(this.eraTimeZone);
-        SimpleDateFormat format = new SimpleDateFormat("EEE MMM dd KK:mm:ss a zzz yyyy");
-        format.setTimeZone(this.desTimeZone);
-        format.format(calendar.getTime());
-        Calendar resultCalendar = Calendar.getInstance();
-        resultCalendar.set(format.getCalendar().get(Calendar.YEAR), format.getCalendar().get(Calendar.MONTH), format
-                .getCalendar().get(Calendar.DAY_OF_MONTH), format.getCalendar().get(Calendar.HOUR_OF_DAY), format
-                .getCalendar().get(Calendar.MINUTE), format.getCalendar().get(Calendar.SECOND));
-        //We need this step for setting the correct TimeZone (desTimeZone).
-        //Notice : resultCalendar.setTime(this.desTimeZone) or Calendar resultCalendar = Calendar.getInstance(this.desTimeZone)
-        //Does not work properly !
-        Calendar correctTZCalendar = Calendar.getInstance(this.desTimeZone);
-        correctTZCalendar.setTime(resultCalendar.getTime());
-        if (fields[9] == 0) {
-            correctTZCalendar.clear(Calendar.AM_PM);
-        }
-        if (fields[10] == 0) {
-            correctTZCalendar.clear(Calendar.HOUR);
-        }
+    private long getTimeOfFields() {
+        fillDateFields();
+        long eraLocal = JalaliUtil.toEpochDay(fields[1], fields[2], fields[5]) * MILLIS_PER_DAY
+                + fields[11] * 3600000L + fields[12] * 60000L + fields[13] * 1000L + fields[14];
+        if (fieldsComputed) {
+            return getTimeOfComputedFields(eraLocal);
+        }
+        long instant = eraLocal - ZoneOffsetResolver.of(eraTimeZone).getOffsetForLocal(eraLocal, false);
+        long desLocal = instant + ZoneOffsetResolver.of(desTimeZone).getOffset(instant);
+        long time = desLocal - ZoneOffsetResolver.of(getDefaultTimeZone()).getOffsetForLocal(desLocal, false);
+        computeDesTimeZone = true;
+        if (fields[9] != 0 && fields[10] != 0 && fields[11] != 0 && fields[12] != 0 && fields[13] != 0
+                && fields[14] != 0) {
+            return time;
+        }
+        ZoneOffsetResolver desResolver = ZoneOffsetResolver.of(desTimeZone);
+        long local = time + desResolver.getOffset(time);
+        long day = Math.floorDiv(local, MILLIS_PER_DAY);
+        int timeOfDay = (int) (local - day * MILLIS_PER_DAY);
+        int hour = timeOfDay / 3600000;
+        int minute = timeOfDay / 60000 % 60;
+        int second = timeOfDay / 1000 % 60;
+        int millisecond = timeOfDay % 1000;
         if (fields[11] == 0) {
-            correctTZCalendar.clear(Calendar.HOUR_OF_DAY);
+            hour = (fields[10] == 0 ? 0 : hour % 12) + (fields[9] == 0 ? 0 : hour / 12 * 12);
         }
         if (fields[12] == 0) {
-            correctTZCalendar.clear(Calendar.MINUTE);
+            minute = 0;
         }
         if (fields[13] == 0) {
-            correctTZCalendar.clear(Calendar.SECOND);
+            second = 0;
         }
         if (fields[14] == 0) {
-            correctTZCalendar.clear(Calendar.MILLISECOND);
-        }
-        computeDesTimeZone = true;
-        return correctTZCalendar;
-    }
-
-    private void convert(Calendar calendar) {
-        int[] jalali = gregorianToJalali(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
-                calendar.get(Calendar.DAY_OF_MONTH));
-        fields[1] = jalali[0];
-        fields[2] = jalali[1];
-        fields[5] = jalali[2];
-        fields[9] = calendar.get(Calendar.AM_PM);
-        fields[10] = calendar.get(Calendar.HOUR);
-        fields[11] = calendar.get(Calendar.HOUR_OF_DAY);
-        fields[12] = calendar.get(Calendar.MINUTE);
-        fields[13] = calendar.get(Calendar.SECOND);
-        if (fields[14] != 0) {
-            fields[14] = calendar.get(Calendar.MILLISECOND);
+            millisecond = 0;
         }
+        local = day * MILLIS_PER_DAY + hour * 3600000L + minute * 60000L + second * 1000L + millisecond;
+        return local - desResolver.getOffsetForLocal(local, false);
     }
 
-    private int[] gregorianToJalali(int... g) {
-        int gy;
-        int gm;
-        int gd;
-
-        int jy;
-        int jm;
-        int jd;
-
-        int gDays;
-        int jDays;
-        int jNp;
-        int i;
-
-        gy = g[0] - 1600;
-        gm = g[1] - 1;
-        gd = g[2] - 1;
-
-        gDays = (365 * gy) + ((gy + 3) / 4) - ((gy + 99) / 100) + ((gy + 399) / 400);
-        for (i = 0; i < gm; i++) {
-            gDays += GREGORIAN_DAYS_IN_MONTH[i];
-        }
-        if (gm > 1 && (gy % 4 == 0 && gy % 100 != 0 || gy % 400 == 0)) {
-            // leap and after Feb
-            ++gDays;
-        }
-        gDays += gd;
-
-        jDays = gDays - 79;
-        jNp = jDays / 12053;
-        jDays %= 12053;
-        jy = 979 + (33 * jNp) + (4 * (jDays / 1461));
-        jDays %= 1461;
-
-        if (jDays >= 366) {
-            jy += (jDays - 1) / 365;
-            jDays = (jDays - 1) % 365;
-        }
-
-        fields[6] = jDays + 1;
-
-        for (i = 0; i < 11 && jDays >= JALALI_DAYS_IN_MONTH[i]; i++) {
-            jDays -= JALALI_DAYS_IN_MONTH[i];
+    /**
+     * Returns the instant whose fields are computed as the given local time by {@link #computeFields()}.
+     */
+    private long getTimeOfComputedFields(long local) {
+        ZoneOffsetResolver eraResolver = ZoneOffsetResolver.of(eraTimeZone);
+        ZoneOffsetResolver defaultResolver = ZoneOffsetResolver.of(getDefaultTimeZone());
+        long eraLocal = local;
+        if (!computeDesTimeZone || eraResolver != defaultResolver) {
+            long instant = local - (computeDesTimeZone ? defaultResolver : ZoneOffsetResolver.of(desTimeZone))
+                    .getOffsetForLocal(local, false);
+            eraLocal = instant + defaultResolver.getOffset(instant);
         }
-        jm = i + 1;
-        jd = jDays + 1;
-        return new int[]{jy, jm, jd};
+        return eraLocal - eraResolver.getOffsetForLocal(eraLocal, false);
     }
 
-    private int[] jalaliToGregorian(int... j) {
-        int gy;
-        int gm;
-        int gd;
-
-        int jy;
-        int jm;
-        int jd;
-
-        int gDays;
-        int jDays;
-        int leap;
-        int i;
-
-        jy = j[0] - 979;
-        jm = j[1] - 1;
-        jd = j[2] - 1;
-
-        jDays = (365 * jy) + ((jy / 33) * 8) + (((jy % 33) + 3) / 4);
-        for (i = 0; i < jm; i++) {
-            jDays += JALALI_DAYS_IN_MONTH[i];
-        }
-        jDays += jd;
-
-        gDays = jDays + 79;
-        gy = 1600 + (400 * (gDays / 146097)); // 146097 = 365 * 400 + 400 / 4 - 400 / 100 + 400 / 400
-        gDays %= 146097;
-
-        leap = 1;
-        if (gDays >= 36525) { //36525 = 365 * 100 + 100 / 4
-            gDays--;
-            gy += 100 * (gDays / 36524); // 36525 = 365 * 100 + 100 / 4 - 100 / 100
-            gDays %= 36524;
-            if (gDays >= 365) {
-                gDays++;
-            } else {
-                leap = 0;
-            }
+    /**
+     * Sets the date fields that are not set to their first values.
+     */
+    private void fillDateFields() {
+        if (fields[1] == 0) {
+            fields[1] = getMinimum(Calendar.YEAR);
         }
-
-        gy += 4 * (gDays / 1461); // 1461 = 365 * 4 + 4 / 4
-        gDays %= 1461;
-
-        if (gDays >= 366) {
-            leap = 0;
-            gDays--;
-            gy += gDays / 365;
-            gDays %= 365;
+        if (fields[2] == 0) {
+            fields[2] = 1;
         }
-
-        for (i = 0; gDays >= GREGORIAN_DAYS_IN_MONTH[i] + boolToInt(i == 1 && leap == 1); i++) {
-            gDays -= GREGORIAN_DAYS_IN_MONTH[i] + boolToInt(i == 1 && leap == 1);
+        if (fields[5] == 0) {
+            fields[5] = 1;
         }
-        gm = i + 1;
-        gd = gDays + 1;
-        return new int[]{gy, gm, gd};
     }
 
-    private int boolToInt(boolean b) {
-        if (b) {
-            return 1;
-        } else {
-            return 0;
+    /**
+     * The default timezone at the creation of this calendar, like the timezone of {@link Calendar#getInstance()}.
+     */
+    private TimeZone getDefaultTimeZone() {
+        if (defaultTimeZone == null) {
+            defaultTimeZone = TimeZone.getDefault();
         }
+        return defaultTimeZone;
     }
 
-    private void increment(int iYear, int iMonth, int iDay, boolean calcOverflow) {
-        if (!isJalaliDate) {
-            convertToJalaliDate();
-            this.isJalaliDate = true;
+    /**
+     * Adds the months to the date fields. The day is kept, or clamped to the last day of the new month unless
+     * {@link #isCalcOverflow()} carries it to the next month; subtracting the months also keeps the last day of
+     * a month as the last day of the new month.
+     */
+    private void addMonths(long months) {
+        normalizeMonth();
+        int day = fields[5];
+        boolean subtract = months < 0;
+        boolean lastDay = subtract && day == daysOfMonth(fields[1], fields[2]);
+        months += fields[1] * 12L + fields[2] - 1;
+        fields[1] = (int) Math.floorDiv(months, 12L);
+        fields[2] = (int) Math.floorMod(months, 12L) + 1;
+        int length = daysOfMonth(fields[1], fields[2]);
+        if (lastDay || (day > length && (subtract || !calcOverflow))) {
+            fields[5] = length;
+        } else if (day > length) {
+            setDateFields(JalaliUtil.toEpochDay(fields[1], fields[2], day));
         }
+    }
 
-        fields[1] += iYear;
-        fields[2] += iMonth;
-
-        fields[1] += (fields[2] % 12 == 0) ? (fields[2] / 12) - 1 : fields[2] / 12;
-        fields[2] = (fields[2] % 12 == 0) ? fields[2] % 12 + 12 : fields[2] % 12;
-
-        if ((!calcOverflow) && (fields[5] > daysOfMonth(fields[1], fields[2]))) {
-            fields[5] = daysOfMonth(fields[1], fields[2]);
-        }
-        fields[5] += iDay;
-
-        while (fields[5] > daysOfMonth(fields[1], fields[2])) {
-            fields[5] -= daysOfMonth(fields[1], fields[2]);
-            fields[2]++;
-            if (fields[2] > 12) {
-                fields[1]++;
-                fields[2] = 1;
-            }
-        }
+    /**
+     * Adds the days to the date fields by the epoch-day; a day after the end of the month is clamped to the last
+     * day of the month first, unless {@link #isCalcOverflow()} carries it to the next month when adding.
+     */
+    private void addDays(long days) {
+        normalizeMonth();
+        int length = daysOfMonth(fields[1], fields[2]);
+        int day = fields[5] > length && (days < 0 || !calcOverflow) ? length : fields[5];
+        setDateFields(JalaliUtil.toEpochDay(fields[1], fields[2], day) + days);
     }
 
-    private void decrement(int dYear, int dMonth, int dDay) {
-        if (!isJalaliDate) {
-            convertToJalaliDate();
-            this.isJalaliDate = true;
+    /**
+     * Adds the amount to a time field and carries the whole days out of it to the date fields, so that the field
+     * stays within a day. A field that is zero is not carried, as a zero time field is cleared by
+     * {@link #getTimeOfFields()}, and a field that is not zero is kept from one to the units of a day.
+     */
+    private void addTime(int field, long amount, long unitsPerDay) {
+        long value = fields[field] + amount;
+        if (value != 0 && (value < 0 || value > unitsPerDay)) {
+            long days = Math.floorDiv(value - 1, unitsPerDay);
+            value -= days * unitsPerDay;
+            fillDateFields();
+            normalizeMonth();
+            setDateFields(JalaliUtil.toEpochDay(fields[1], fields[2], fields[5]) + days);
         }
+        fields[field] = (int) value;
+    }
 
-        boolean bMnthLastDay = false;
-        if (fields[5] == daysOfMonth(fields[1], fields[2]))
-            bMnthLastDay = true;
-
-        fields[1] -= dYear;
-        fields[2] -= dMonth;
-
-        fields[1] -= (fields[2] % 12 < 1) ? -(fields[2] / 12) + 1 : -(fields[2] / 12);
-        fields[2] = (fields[2] % 12 < 1) ? fields[2] % 12 + 12 : fields[2] % 12;
-
-        if (fields[5] > daysOfMonth(fields[1], fields[2]) || bMnthLastDay)
-            fields[5] = daysOfMonth(fields[1], fields[2]);
-
-        while (dDay >= fields[5]) {
-            dDay -= fields[5];
-
-            if (--fields[2] < 1) {
-                fields[1]--;
-
-                fields[2] = 12;
-            }
+    private void addHours(long hours) {
+        long hour12 = fields[10] + hours;
+        fields[10] = hour12 == 0 ? 0 : (int) Math.floorMod(hour12 - 1, 12L) + 1;
+        addTime(11, hours, 24);
+    }
 
-            fields[5] = daysOfMonth(fields[1], fields[2]);
+    private void normalizeMonth() {
+        if (fields[2] < 1 || fields[2] > 12) {
+            long months = fields[1] * 12L + fields[2] - 1;
+            fields[1] = (int) Math.floorDiv(months, 12L);
+            fields[2] = (int) Math.floorMod(months, 12L) + 1;
         }
-        fields[5] -= dDay;
+    }
+
+    private void setDateFields(long epochDay) {
+        int jalali = JalaliUtil.fromEpochDay(epochDay);
+        fields[1] = jalali / 10000;
+        fields[2] = jalali / 100 % 100;
+        fields[5] = jalali % 100;
     }
 
     private int daysOfMonth(int aYear, int aMonth) {
@@ -449,12 +344,17 @@ public class JalaliCalendar extends Calendar {
         return aMonth <= 6 ? 31 : aMonth < 12 ? 30 : JalaliUtil.isLeapYear(aYear) ? 30 : 29;
     }
 
+    /**
+     * Returns the value of the given field. The fields are computed once after a change of the time or the fields,
+     * and the next calls return the computed fields.
+     *
+     * @param field field
+     * @return the value of the field
+     */
     public int get(int field) {
-        this.setTimeZone(this.desTimeZone);
-        if (!isJalaliDate) {
-            convertToJalaliDate();
+        if (!isTimeSet || !areFieldsSet) {
+            complete();
         }
-        complete();
         switch (field) {
             case YEAR:
                 return fields[1];
@@ -487,16 +387,16 @@ public class JalaliCalendar extends Calendar {
                     return 1;
                 }
             case ZONE_OFFSET:
-                return fields[15];
+                ZoneOffsetResolver eraResolver = ZoneOffsetResolver.of(eraTimeZone);
+                return eraResolver.getOffset(time) - eraResolver.getDstOffset(time);
             case DST_OFFSET:
-                return fields[16];
+                return ZoneOffsetResolver.of(eraTimeZone).getDstOffset(time);
             default:
                 return 0;
         }
     }
 
     public void set(int field, int value) {
-        this.setTimeZone(this.desTimeZone);
         switch (field) {
             case YEAR:
                 fields[1] = value;
@@ -528,96 +428,121 @@ public class JalaliCalendar extends Calendar {
                 break;
         }
         isTimeSet = false;
+        areFieldsSet = false;
     }
 
     /**
-     * Just work fine for YEAR, MONTH, DAY_OF_MONTH, HOUR, HOUR_OF_DAY, MINUTE, SECOND
-     * <p>
      * Adds or subtracts the specified amount of time to the given calendar field, based on the calendar's rules.
      * For example, to subtract 5 days from the current time of the calendar, you can achieve it by calling:
      * add(Calendar.DAY_OF_MONTH, -5).
+     * <p>
+     * The years and months keep the day of month, see {@link #setCalcOverflow(boolean)}, the days and weeks are
+     * added by the epoch-day and the time fields by the milliseconds of the day with the carry to the days,
+     * so the cost does not depend on the amount.
      * Overrides: add(...) in Calendar
      *
      * @param field  field
      * @param amount amount
      */
     public void add(int field, int amount) {
-        boolean calcOverflow = isCalcOverflow();
         switch (field) {
             case YEAR:
-                if (amount >= 0)
-                    increment(amount, 0, 0, calcOverflow);
-                else
-                    decrement(-amount, 0, 0);
+                addMonths(amount * 12L);
                 break;
             case MONTH:
-                if (amount >= 0)
-                    increment(0, amount, 0, calcOverflow);
-                else
-                    decrement(0, -amount, 0);
+                addMonths(amount);
                 break;
             case DAY_OF_MONTH:
-                if (amount >= 0)
-                    increment(0, 0, amount, calcOverflow);
-                else
-                    decrement(0, 0, -amount);
+            case DAY_OF_YEAR:
+            case DAY_OF_WEEK:
+                addDays(amount);
+                break;
+            case WEEK_OF_YEAR:
+            case WEEK_OF_MONTH:
+            case DAY_OF_WEEK_IN_MONTH:
+                addDays(amount * 7L);
+                break;
+            case AM_PM:
+                addHours(amount * 12L);
                 break;
             case HOUR:
             case HOUR_OF_DAY:
-                fields[11] += amount;
-                fields[10] += amount;
+                addHours(amount);
                 break;
             case MINUTE:
-                fields[12] += amount;
+                addTime(12, amount, 1440);
                 break;
             case SECOND:
-                fields[13] += amount;
+                addTime(13, amount, 86400);
+                break;
+            case MILLISECOND:
+                addTime(14, amount, MILLIS_PER_DAY);
                 break;
             default:
                 break;
         }
         isTimeSet = false;
+        areFieldsSet = false;
     }
 
+    /**
+     * Sets the time and computes the fields once, without allocating, so that one calendar can be reused for
+     * converting many instants.
+     *
+     * @param millis milliseconds since 1970/01/01 00:00:00 UTC
+     */
+    @Override
+    public void setTimeInMillis(long millis) {
+        if (millis != time || !isTimeSet || !areFieldsSet) {
+            super.setTimeInMillis(millis);
+        }
+    }
+
+    /**
+     * Computes the jalali fields of the time in the era timezone; the destination timezone is applied until
+     * the time is computed from the fields.
+     */
     @Override
     protected void computeFields() {
-        Calendar calendar = Calendar.getInstance(eraTimeZone);
-        calendar.setTime(new Date(this.time));
-        if (isCalledConstructor) {
-            fields[1] = calendar.get(Calendar.YEAR);
-            fields[2] = calendar.get(Calendar.MONTH);
-            fields[5] = calendar.get(Calendar.DAY_OF_MONTH);
-            fields[6] = calendar.get(Calendar.DAY_OF_YEAR);
-            fields[7] = calendar.get(Calendar.DAY_OF_WEEK);
-            fields[9] = calendar.get(Calendar.AM_PM);
-            fields[11] = calendar.get(Calendar.HOUR_OF_DAY);
-            fields[12] = calendar.get(Calendar.MINUTE);
-            fields[13] = calendar.get(Calendar.SECOND);
-            fields[14] = calendar.get(Calendar.MILLISECOND);
-            fields[15] = calendar.get(Calendar.ZONE_OFFSET);
-            fields[16] = calendar.get(Calendar.DST_OFFSET);
-            isCalledConstructor = false;
-        } else {
-            fields[1] = (fields[1] == 0) ? this.getMinimum(Calendar.YEAR) : calendar.get(Calendar.YEAR);
-            fields[2] = (fields[2] == 0) ? 0 : calendar.get(Calendar.MONTH);
-            fields[5] = (fields[5] == 0) ? 0 : calendar.get(Calendar.DAY_OF_MONTH);
-            fields[6] = calendar.get(Calendar.DAY_OF_YEAR);
-            fields[7] = calendar.get(Calendar.DAY_OF_WEEK);
-            fields[9] = calendar.get(Calendar.AM_PM);
-            fields[11] = calendar.get(Calendar.HOUR_OF_DAY);
-            fields[12] = calendar.get(Calendar.MINUTE);
-            fields[13] = calendar.get(Calendar.SECOND);
-            fields[14] = calendar.get(Calendar.MILLISECOND);
-            fields[15] = calendar.get(Calendar.ZONE_OFFSET);
-            fields[16] = calendar.get(Calendar.DST_OFFSET);
+        JalaliMetrics metrics = JalaliMetrics.installed;
+        long start = JalaliMetrics.start(metrics);
+        ZoneOffsetResolver eraResolver = ZoneOffsetResolver.of(eraTimeZone);
+        ZoneOffsetResolver defaultResolver = ZoneOffsetResolver.of(getDefaultTimeZone());
+        long eraLocal = time + eraResolver.getOffset(time);
+        long local = eraLocal;
+        if (!computeDesTimeZone || eraResolver != defaultResolver) {
+            long instant = eraLocal - defaultResolver.getOffsetForLocal(eraLocal, false);
+            local = instant + (computeDesTimeZone ? defaultResolver : ZoneOffsetResolver.of(desTimeZone))
+                    .getOffset(instant);
+        }
+        long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        int timeOfDay = (int) (local - epochDay * MILLIS_PER_DAY);
+        int jalali = JalaliDayCache.fromEpochDay(epochDay);
+        fields[1] = jalali / 10000;
+        fields[2] = jalali / 100 % 100;
+        fields[5] = jalali % 100;
+        fields[6] = JalaliUtil.daysBeforeMonth(fields[2]) + fields[5];
+        fields[7] = (int) Math.floorMod(Math.floorDiv(eraLocal, MILLIS_PER_DAY) + 4, 7L) + 1;
+        fields[11] = timeOfDay / 3600000;
+        fields[9] = fields[11] < 12 ? AM : PM;
+        fields[10] = fields[11] % 12;
+        fields[12] = timeOfDay / 60000 % 60;
+        fields[13] = timeOfDay / 1000 % 60;
+        fields[14] = (int) Math.floorMod(eraLocal, 1000L);
+        fieldsComputed = true;
+        if (metrics != null) {
+            metrics.record(JalaliMetrics.Operation.COMPUTE_FIELDS, start);
         }
-        isJalaliDate = false;
-        convertToJalaliDate();
     }
 
     @Override
     protected void computeTime() {
-        this.time = getCalendar().getTime().getTime();
+        JalaliMetrics metrics = JalaliMetrics.installed;
+        long start = JalaliMetrics.start(metrics);
+        this.time = getTimeOfFields();
+        if (metrics != null) {
+            metrics.record(JalaliMetrics.Operation.COMPUTE_TIME, start);
+        }
     }
 
     @Override
@@ -632,22 +557,16 @@ public class JalaliCalendar extends Calendar {
 
     @Override
     public int getMaximum(int field) {
-        if (!isJalaliDate) {
-            convertToJalaliDate();
-        }
         if (field == YEAR) {
-            return 9979;
+            return JalaliUtil.MAX_YEAR;
         }
         return Calendar.getInstance().getMaximum(field);
     }
 
     @Override
     public int getMinimum(int field) {
-        if (!isJalaliDate) {
-            convertToJalaliDate();
-        }
         if (field == YEAR) {
-            return 979;
+            return JalaliUtil.MIN_YEAR;
         }
         return Calendar.getInstance().getMinimum(field);
     }
@@ -676,10 +595,6 @@ public class JalaliCalendar extends Calendar {
      */
     @Override
     public void roll(int field, boolean up) {
-        if (!isJalaliDate) {
-            convertToJalaliDate();
-            this.isJalaliDate = true;
-        }
         switch (field) {
             case YEAR:
                 fields[1] += up ? +1 : -1;
@@ -781,6 +696,8 @@ public class JalaliCalendar extends Calendar {
                 break;
         }
         fields[10] = fields[11];
+        isTimeSet = false;
+        areFieldsSet = false;
     }
 
     /**
@@ -0,0 +1,188 @@
+package com.tosan.tools.jalali;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.chrono.Era;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Jalali calendar system for the java.time API, e.g.
+ * <code>DateTimeFormatter.ofPattern("yyyy/MM/dd").withChronology(JalaliChronology.INSTANCE)</code>.
+ * It is built on the same arithmetic as {@link JalaliUtil#toEpochDay(int, int, int)} and supports the years
+ * between {@link JalaliCalendar#getMinimum(int)} and {@link JalaliCalendar#getMaximum(int)}.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliChronology extends AbstractChronology implements Serializable {
+    private static final long serialVersionUID = -4290577462441623815L;
+
+    public static final JalaliChronology INSTANCE = new JalaliChronology();
+
+    static final ValueRange YEAR_RANGE = ValueRange.of(JalaliUtil.MIN_YEAR, JalaliUtil.MAX_YEAR);
+    static final ValueRange EPOCH_DAY_RANGE = ValueRange.of(JalaliUtil.toEpochDay(JalaliUtil.MIN_YEAR, 1, 1),
+            JalaliUtil.toEpochDay(JalaliUtil.MAX_YEAR + 1, 1, 1) - 1);
+
+    private JalaliChronology() {
+    }
+
+    /**
+     * @return the id of the chronology, "Jalali"
+     */
+    @Override
+    public String getId() {
+        return "Jalali";
+    }
+
+    /**
+     * @return the CLDR calendar type, "persian"
+     */
+    @Override
+    public String getCalendarType() {
+        return "persian";
+    }
+
+    @Override
+    public JalaliLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    @Override
+    public JalaliLocalDate date(int prolepticYear, int month, int dayOfMonth) {
+        return JalaliLocalDate.of(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public JalaliLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    @Override
+    public JalaliLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+        return JalaliLocalDate.ofYearDay(prolepticYear, dayOfYear);
+    }
+
+    @Override
+    public JalaliLocalDate dateEpochDay(long epochDay) {
+        return JalaliLocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public JalaliLocalDate dateNow() {
+        return JalaliLocalDate.now();
+    }
+
+    @Override
+    public JalaliLocalDate dateNow(ZoneId zone) {
+        return JalaliLocalDate.now(zone);
+    }
+
+    @Override
+    public JalaliLocalDate dateNow(Clock clock) {
+        return JalaliLocalDate.now(clock);
+    }
+
+    @Override
+    public JalaliLocalDate date(TemporalAccessor temporal) {
+        if (temporal instanceof JalaliLocalDate) {
+            return (JalaliLocalDate) temporal;
+        }
+        return JalaliLocalDate.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoLocalDateTime<JalaliLocalDate> localDateTime(TemporalAccessor temporal) {
+        return (ChronoLocalDateTime<JalaliLocalDate>) super.localDateTime(temporal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoZonedDateTime<JalaliLocalDate> zonedDateTime(TemporalAccessor temporal) {
+        return (ChronoZonedDateTime<JalaliLocalDate>) super.zonedDateTime(temporal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoZonedDateTime<JalaliLocalDate> zonedDateTime(Instant instant, ZoneId zone) {
+        return (ChronoZonedDateTime<JalaliLocalDate>) super.zonedDateTime(instant, zone);
+    }
+
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return YEAR_RANGE.isValidValue(prolepticYear) && JalaliLocalDate.lengthOfYear((int) prolepticYear) == 366;
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof JalaliEra)) {
+            throw new ClassCastException("Era must be JalaliEra");
+        }
+        return era == JalaliEra.AP ? yearOfEra : 1 - yearOfEra;
+    }
+
+    @Override
+    public JalaliEra eraOf(int eraValue) {
+        return JalaliEra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return Arrays.<Era>asList(JalaliEra.values());
+    }
+
+    @Override
+    public ValueRange range(ChronoField field) {
+        switch (field) {
+            case YEAR:
+            case YEAR_OF_ERA:
+                return YEAR_RANGE;
+            case PROLEPTIC_MONTH:
+                return ValueRange.of(JalaliUtil.MIN_YEAR * 12L, JalaliUtil.MAX_YEAR * 12L + 11);
+            case DAY_OF_MONTH:
+                return ValueRange.of(1, 29, 31);
+            case DAY_OF_YEAR:
+                return ValueRange.of(1, 365, 366);
+            case ALIGNED_WEEK_OF_MONTH:
+                return ValueRange.of(1, 5);
+            case ALIGNED_WEEK_OF_YEAR:
+                return ValueRange.of(1, 53);
+            case ERA:
+                return ValueRange.of(0, 1);
+            case EPOCH_DAY:
+                return EPOCH_DAY_RANGE;
+            default:
+                return field.range();
+        }
+    }
+
+    @Override
+    public JalaliLocalDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        return (JalaliLocalDate) super.resolveDate(fieldValues, resolverStyle);
+    }
+
+    static void checkYear(long year) {
+        if (!YEAR_RANGE.isValidValue(year)) {
+            throw new DateTimeException("Invalid jalali year (valid values " + YEAR_RANGE + "): " + year);
+        }
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
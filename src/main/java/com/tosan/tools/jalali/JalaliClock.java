@@ -0,0 +1,121 @@
+package com.tosan.tools.jalali;
+
+import java.time.Clock;
+import java.util.TimeZone;
+
+/**
+ * A source of the current jalali day and date of a {@link Clock} in a time zone, e.g.
+ * <code>JalaliClock.systemDefaultZone().today()</code>, which is cheap enough to stamp every record.
+ * <p>
+ * The current day is converted once and published with the instants of its start and of the start of the next
+ * day, so that the day is only converted again when the clock crosses the boundary of the day. {@link #now()} adds
+ * the time of day to the published day.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliClock {
+    private static final long MILLIS_PER_DAY = 86400000;
+
+    private final Clock clock;
+    private final TimeZone timeZone;
+    private final ZoneOffsetResolver resolver;
+    private volatile Today today;
+
+    /**
+     * @param clock the clock, whose zone is the time zone of the jalali dates
+     */
+    public JalaliClock(Clock clock) {
+        this(clock, TimeZone.getTimeZone(clock.getZone()));
+    }
+
+    /**
+     * @param clock    the clock, whose zone is ignored
+     * @param timeZone the time zone of the jalali dates
+     */
+    public JalaliClock(Clock clock, TimeZone timeZone) {
+        this.clock = clock;
+        this.timeZone = (TimeZone) timeZone.clone();
+        this.resolver = ZoneOffsetResolver.of(this.timeZone);
+        this.today = new Today(clock.millis());
+    }
+
+    /**
+     * @return a clock of the system time in the default time zone
+     */
+    public static JalaliClock systemDefaultZone() {
+        return new JalaliClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * @return the current jalali day
+     */
+    public JalaliDay today() {
+        return today(clock.millis()).day;
+    }
+
+    /**
+     * @return the current jalali date and time to the millisecond in the time zone
+     */
+    public JalaliDate now() {
+        long millis = clock.millis();
+        Today today = today(millis);
+        long local = millis + (today.offsetFixed ? today.offset : resolver.getOffset(millis));
+        int timeOfDay = (int) (local - today.day.toEpochDay() * MILLIS_PER_DAY);
+        return new JalaliDate(today.day.getYear(), today.day.getMonth(), today.day.getDay(), timeOfDay / 3600000,
+                timeOfDay / 60000 % 60, timeOfDay / 1000 % 60, timeOfDay % 1000, timeZone);
+    }
+
+    private Today today(long millis) {
+        Today today = this.today;
+        if (millis < today.start || millis >= today.end) {
+            today = new Today(millis);
+            this.today = today;
+        }
+        return today;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return a copy of the time zone
+     */
+    public TimeZone getTimeZone() {
+        return (TimeZone) timeZone.clone();
+    }
+
+    /**
+     * @return the instant of the start of the local day, which is after midnight if midnight is in a gap
+     */
+    private long startOfDay(long epochDay) {
+        long local = epochDay * MILLIS_PER_DAY;
+        return local - resolver.getOffsetForLocal(local, true);
+    }
+
+    /**
+     * The immutable current day with the instants of its boundaries.
+     */
+    private final class Today {
+        private final JalaliDay day;
+        private final long start;
+        private final long end;
+        private final int offset;
+        /**
+         * Whether the offset is the same for the whole day, which is false on the days of the transitions.
+         */
+        private final boolean offsetFixed;
+
+        private Today(long millis) {
+            long epochDay = Math.floorDiv(millis + resolver.getOffset(millis), MILLIS_PER_DAY);
+            day = JalaliDay.ofEpochDay(epochDay);
+            start = startOfDay(epochDay);
+            end = startOfDay(epochDay + 1);
+            offset = resolver.getOffset(start);
+            offsetFixed = offset == resolver.getOffset(end - 1);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.tosan.tools.jalali;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Rewrites the gregorian date columns of a delimited text file, e.g. a CSV export or a log, to jalali dates.
+ * The file is read through memory-mapped chunks of a {@link FileChannel} and the date columns are found and
+ * converted at the byte level, without decoding the lines into strings; the chunks are rewritten in parallel.
+ * <p>
+ * A date cell is yyyy-MM-dd or yyyy/MM/dd, optionally quoted and optionally followed by a time after a space or 'T',
+ * e.g. 2024-04-03 10:20:30. Its date is replaced by the jalali date with the same separator, e.g. 1403-01-15 10:20:30,
+ * so the length of every line is kept. The time is not changed, as the jalali date of a local date does not depend on
+ * the time zone. The cells that are not a valid gregorian date, e.g. the header or empty cells, are copied unchanged.
+ * The lines are separated by '\n' (or "\r\n") and a quoted cell must not contain a line separator.
+ * <p>
+ * It can also be run as a tool: <code>JalaliColumnRewriter source target delimiter columns [parallelism]</code>,
+ * e.g. <code>JalaliColumnRewriter export.csv export-jalali.csv , 0,3</code>, where the columns are zero-based.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliColumnRewriter {
+    private static final int DEFAULT_CHUNK_SIZE = 32 << 20;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final byte delimiter;
+    private final boolean[] columns;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private JalaliColumnRewriter(byte delimiter, boolean[] columns, int chunkSize, int parallelism) {
+        this.delimiter = delimiter;
+        this.columns = columns;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param delimiter the ascii delimiter of the cells, e.g. ',' or '\t'
+     * @param columns   the zero-based indexes of the date columns
+     * @return the rewriter
+     */
+    public static JalaliColumnRewriter of(char delimiter, int... columns) {
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r' || delimiter == '"') {
+            throw new IllegalArgumentException("the delimiter " + delimiter + " is not supported.");
+        }
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("no date column is given.");
+        }
+        int max = 0;
+        for (int column : columns) {
+            if (column < 0) {
+                throw new IllegalArgumentException("the column " + column + " is not valid.");
+            }
+            max = Math.max(max, column);
+        }
+        boolean[] columnArray = new boolean[max + 1];
+        for (int column : columns) {
+            columnArray[column] = true;
+        }
+        return new JalaliColumnRewriter((byte) delimiter, columnArray, DEFAULT_CHUNK_SIZE,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param chunkSize the approximate size in bytes of the chunks that are mapped and rewritten by one thread,
+     *                  32 MB by default
+     * @return a copy of this rewriter with the given chunk size
+     */
+    public JalaliColumnRewriter withChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("the chunk size " + chunkSize + " is not valid.");
+        }
+        return new JalaliColumnRewriter(delimiter, columns, chunkSize, parallelism);
+    }
+
+    /**
+     * @param parallelism the number of threads, the number of available processors by default
+     * @return a copy of this rewriter with the given parallelism
+     */
+    public JalaliColumnRewriter withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("the parallelism " + parallelism + " is not valid.");
+        }
+        return new JalaliColumnRewriter(delimiter, columns, chunkSize, parallelism);
+    }
+
+    /**
+     * Rewrites the source file to the target file, which is created or replaced.
+     *
+     * @param source the source file
+     * @param target the target file, which must not be the source file or a link to it
+     * @return the number of the converted cells
+     * @throws IOException              if the files cannot be read or written
+     * @throws IllegalArgumentException if the target is the source file
+     */
+    public long rewrite(Path source, Path target) throws IOException {
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            throw new IllegalArgumentException("the target " + target + " is the source file.");
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            List<Callable<Long>> chunks = new ArrayList<>();
+            long size = in.size();
+            long start = 0;
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : lineEnd(in, start + chunkSize);
+                long chunkStart = start;
+                chunks.add(() -> rewrite(in, out, chunkStart, end));
+                start = end;
+            }
+            if (parallelism == 1 || chunks.size() <= 1) {
+                long count = 0;
+                for (Callable<Long> chunk : chunks) {
+                    count += call(chunk);
+                }
+                return count;
+            }
+            return rewriteInParallel(chunks);
+        }
+    }
+
+    private long rewriteInParallel(List<Callable<Long>> chunks) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long count = 0;
+            for (Future<Long> future : pool.invokeAll(chunks)) {
+                count += future.get();
+            }
+            return count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("the rewrite is interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static long call(Callable<Long> chunk) throws IOException {
+        try {
+            return chunk.call();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * @return the index after the first line separator at or after the position, or the size of the file
+     */
+    private static long lineEnd(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Rewrites the lines of the chunk into the same range of the target, as the rewrite keeps the length of
+     * the lines.
+     */
+    private long rewrite(FileChannel in, FileChannel out, long start, long end) {
+        try {
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            byte[] bytes = new byte[(int) Math.min(BUFFER_SIZE, end - start)];
+            long count = 0;
+            int length = 0;
+            long position = start;
+            while (mapped.hasRemaining() || length > 0) {
+                int read = Math.min(bytes.length - length, mapped.remaining());
+                mapped.get(bytes, length, read);
+                length += read;
+                int linesEnd = length;
+                if (mapped.hasRemaining()) {
+                    while (linesEnd > 0 && bytes[linesEnd - 1] != '\n') {
+                        linesEnd--;
+                    }
+                    if (linesEnd == 0) {
+                        bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                        continue;
+                    }
+                }
+                count += rewriteLines(bytes, linesEnd);
+                ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, linesEnd);
+                while (buffer.hasRemaining()) {
+                    position += out.write(buffer, position);
+                }
+                System.arraycopy(bytes, linesEnd, bytes, 0, length - linesEnd);
+                length -= linesEnd;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rewrites the date cells of the complete lines in the bytes in place.
+     *
+     * @return the number of the converted cells
+     */
+    private long rewriteLines(byte[] bytes, int length) {
+        long count = 0;
+        int column = 0;
+        int cellStart = 0;
+        boolean quoted = false;
+        for (int i = 0; i <= length; i++) {
+            byte b = i < length ? bytes[i] : (byte) '\n';
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' || (!quoted && b == delimiter)) {
+                if (column < columns.length && columns[column] && convert(bytes, cellStart, i)) {
+                    count++;
+                }
+                column = b == '\n' ? 0 : column + 1;
+                cellStart = i + 1;
+                quoted = false;
+            }
+        }
+        return count;
+    }
+
+    private static boolean convert(byte[] bytes, int start, int end) {
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        if (end - start >= 2 && bytes[start] == '"' && bytes[end - 1] == '"') {
+            start++;
+            end--;
+        }
+        if (end - start < 10 || (end - start > 10 && bytes[start + 10] != ' ' && bytes[start + 10] != 'T')) {
+            return false;
+        }
+        byte separator = bytes[start + 4];
+        if ((separator != '-' && separator != '/') || bytes[start + 7] != separator) {
+            return false;
+        }
+        int year = number(bytes, start, 4);
+        int month = number(bytes, start + 5, 2);
+        int day = number(bytes, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        long epochDay = JalaliUtil.gregorianToEpochDay(year, month, day);
+        if (JalaliUtil.gregorianFromEpochDay(epochDay) != year * 10000 + month * 100 + day) {
+            return false;
+        }
+        int jalali = JalaliDayCache.fromEpochDay(epochDay);
+        if (jalali < 10000) {
+            return false;
+        }
+        DigitUtil.writePadded(bytes, start, jalali / 10000, 4);
+        DigitUtil.writePadded(bytes, start + 5, jalali / 100 % 100, 2);
+        DigitUtil.writePadded(bytes, start + 8, jalali % 100, 2);
+        return true;
+    }
+
+    private static int number(byte[] bytes, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = DigitUtil.digit(bytes[i]);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4 || args.length > 5 || args[2].length() != 1) {
+            System.err.println("usage: JalaliColumnRewriter source target delimiter columns [parallelism]");
+            System.err.println("e.g.:  JalaliColumnRewriter export.csv export-jalali.csv , 0,3");
+            System.exit(1);
+        }
+        String[] columnTexts = args[3].split(",");
+        int[] columns = new int[columnTexts.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Integer.parseInt(columnTexts[i].trim());
+        }
+        JalaliColumnRewriter rewriter = of(args[2].charAt(0), columns);
+        if (args.length == 5) {
+            rewriter = rewriter.withParallelism(Integer.parseInt(args[4]));
+        }
+        long count = rewriter.rewrite(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(count + " cells are converted.");
+    }
+}
@@ -0,0 +1,166 @@
+package com.tosan.tools.jalali;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * An immutable converter between {@link Date} and {@link JalaliDate}, configured once with the era and the
+ * destination time zones, e.g. <code>new JalaliConverter(tehran, tehran)</code>. It gives the results of
+ * {@link JalaliCalendar} with the same time zones, and of {@link JalaliUtil} with the default time zone, without
+ * creating a calendar per conversion.
+ * <p>
+ * The days and the columns of {@link #toJalaliDay(long)}, {@link #toEpochMillis(JalaliDay)},
+ * {@link #toJalali(long[], int[])} and {@link #toEpochMillis(int[], long[])} are plain instants in the destination
+ * time zone, like the bulk conversions of {@link JalaliUtil} with that time zone.
+ * <p>
+ * The time zones and their offsets are resolved at the construction, including the default time zone, which is
+ * used like the default time zone of a {@link JalaliCalendar} created at that time.
+ * <p>
+ * This class is thread-safe: it has no mutable state, no lock and no thread-local, so that one instance can be
+ * shared by any number of threads, including virtual threads.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliConverter {
+    private static final long MILLIS_PER_DAY = 86400000;
+
+    private final TimeZone eraTimeZone;
+    private final TimeZone desTimeZone;
+    private final ZoneOffsetResolver eraResolver;
+    private final ZoneOffsetResolver desResolver;
+    private final ZoneOffsetResolver defaultResolver;
+
+    /**
+     * Creates a converter of the default time zone, like {@link JalaliUtil}.
+     */
+    public JalaliConverter() {
+        this(null, null);
+    }
+
+    /**
+     * @param eraTimeZone the era time zone of the dates, or null for the default time zone
+     * @param desTimeZone the destination time zone, or null for the default time zone
+     */
+    public JalaliConverter(TimeZone eraTimeZone, TimeZone desTimeZone) {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        this.eraTimeZone = (TimeZone) (eraTimeZone == null ? defaultTimeZone : eraTimeZone).clone();
+        this.desTimeZone = (TimeZone) (desTimeZone == null ? defaultTimeZone : desTimeZone).clone();
+        this.eraResolver = ZoneOffsetResolver.of(this.eraTimeZone);
+        this.desResolver = ZoneOffsetResolver.of(this.desTimeZone);
+        this.defaultResolver = ZoneOffsetResolver.of(defaultTimeZone);
+    }
+
+    /**
+     * Converts the date like <code>new JalaliCalendar(date, eraTimeZone, desTimeZone).getJalaliDate()</code>.
+     * The installed {@link JalaliDayCache}, if any, is consulted for the day.
+     *
+     * @param date date
+     * @return the jalali date in the destination time zone
+     */
+    public JalaliDate toJalali(Date date) {
+        long time = date.getTime();
+        long eraLocal = time + eraResolver.getOffset(time);
+        long instant = eraLocal - defaultResolver.getOffsetForLocal(eraLocal, false);
+        long local = instant + desResolver.getOffset(instant);
+        long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        int jalali = JalaliDayCache.fromEpochDay(epochDay);
+        int timeOfDay = (int) (local - epochDay * MILLIS_PER_DAY);
+        return new JalaliDate(jalali / 10000, jalali / 100 % 100, jalali % 100, timeOfDay / 3600000,
+                timeOfDay / 60000 % 60, timeOfDay / 1000 % 60, 0, desTimeZone);
+    }
+
+    /**
+     * Converts the jalali date in its own time zone, or the era time zone if it has none, like
+     * <code>new JalaliCalendar(jalaliDate, desTimeZone).getTime()</code>. The time fields that are zero are
+     * cleared in the destination time zone, like {@link JalaliCalendar}.
+     *
+     * @param jalaliDate jalaliDate
+     * @return the date, or null if the jalali date is not valid, like {@link JalaliUtil#jalaliToGregorian(JalaliDate)}
+     */
+    public Date toGregorian(JalaliDate jalaliDate) {
+        if (!jalaliDate.isValid()) {
+            return null;
+        }
+        TimeZone timeZone = jalaliDate.getTimeZone();
+        ZoneOffsetResolver resolver = timeZone == null ? eraResolver : ZoneOffsetResolver.of(timeZone);
+        int year = jalaliDate.getYear() == 0 ? JalaliUtil.MIN_YEAR : jalaliDate.getYear();
+        int hour = jalaliDate.getHour();
+        int minute = jalaliDate.getMinute();
+        int second = jalaliDate.getSecond();
+        int millisecond = jalaliDate.getMillisecond();
+        long eraLocal = JalaliUtil.toEpochDay(year, jalaliDate.getMonth(), jalaliDate.getDay()) * MILLIS_PER_DAY
+                + hour * 3600000L + minute * 60000L + second * 1000L + millisecond;
+        long instant = eraLocal - resolver.getOffsetForLocal(eraLocal, false);
+        long desLocal = instant + desResolver.getOffset(instant);
+        long time = desLocal - defaultResolver.getOffsetForLocal(desLocal, false);
+        long local = time + desResolver.getOffset(time);
+        long day = Math.floorDiv(local, MILLIS_PER_DAY);
+        int timeOfDay = (int) (local - day * MILLIS_PER_DAY);
+        local = day * MILLIS_PER_DAY
+                + (hour == 0 ? 0 : timeOfDay / 3600000 * 3600000L)
+                + (minute == 0 ? 0 : timeOfDay / 60000 % 60 * 60000L)
+                + (second == 0 ? 0 : timeOfDay / 1000 % 60 * 1000L)
+                + (millisecond == 0 ? 0 : timeOfDay % 1000);
+        return new Date(local - desResolver.getOffsetForLocal(local, false));
+    }
+
+    /**
+     * @param epochMillis milliseconds since 1970/01/01 00:00:00 UTC
+     * @return the jalali day of the instant in the destination time zone
+     */
+    public JalaliDay toJalaliDay(long epochMillis) {
+        return JalaliDay.ofEpochDay(Math.floorDiv(epochMillis + desResolver.getOffset(epochMillis), MILLIS_PER_DAY));
+    }
+
+    /**
+     * @param jalaliDay jalaliDay
+     * @return the epoch milliseconds of the start of the day in the destination time zone
+     */
+    public long toEpochMillis(JalaliDay jalaliDay) {
+        long local = jalaliDay.toEpochDay() * MILLIS_PER_DAY;
+        return local - desResolver.getOffsetForLocal(local, true);
+    }
+
+    /**
+     * Converts a column of instants like {@link JalaliUtil#toJalali(long[], TimeZone, int[])} in the destination
+     * time zone.
+     *
+     * @param millis    milliseconds since 1970/01/01 00:00:00 UTC
+     * @param packedOut the destination of the jalali dates packed as yyyymmdd, with the same length as millis
+     */
+    public void toJalali(long[] millis, int[] packedOut) {
+        JalaliUtil.toJalali(millis, desResolver, packedOut);
+    }
+
+    /**
+     * Converts a column of packed jalali dates like {@link JalaliUtil#toEpochMillis(int[], TimeZone, long[])} in the
+     * destination time zone.
+     *
+     * @param packed    the jalali dates packed as yyyymmdd
+     * @param millisOut the destination of the epoch milliseconds of the start of the days, with the same length as
+     *                  packed
+     */
+    public void toEpochMillis(int[] packed, long[] millisOut) {
+        JalaliUtil.toEpochMillis(packed, desResolver, millisOut);
+    }
+
+    /**
+     * @return a copy of the era time zone
+     */
+    public TimeZone getEraTimeZone() {
+        return (TimeZone) eraTimeZone.clone();
+    }
+
+    /**
+     * @return a copy of the destination time zone
+     */
+    public TimeZone getDesTimeZone() {
+        return (TimeZone) desTimeZone.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "JalaliConverter{era=" + eraTimeZone.getID() + ", des=" + desTimeZone.getID() + '}';
+    }
+}
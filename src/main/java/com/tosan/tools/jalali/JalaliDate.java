@@ -1,7 +1,8 @@
 package com.tosan.tools.jalali;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.util.Formatter;
 import java.util.TimeZone;
 
 /**
@@ -80,64 +81,140 @@ public class JalaliDate implements Serializable, Comparable<JalaliDate> {
 
     @Override
     public int hashCode() {
-        int result = year;
-        result = 31 * result + month;
-        result = 31 * result + day;
-        result = 31 * result + hour;
-        result = 31 * result + minute;
-        result = 31 * result + second;
-        return result;
+        return Long.hashCode(pack(year, month, day, hour, minute, second, 0));
     }
 
     @Override
     public int compareTo(JalaliDate o) {
-        if (!isValid(this) || !isValid(o)) {
+        if (!isValid(this) || !isValid(o) || !isPackable(this) || !isPackable(o)) {
             throw new IllegalArgumentException("invalid date argument");
         }
-        if (this.year > o.year) {
-            return 1;
-        } else if (this.year < o.year) {
-            return -1;
-        } else {
-            if (this.month > o.month) {
-                return 1;
-            } else if (this.month < o.month) {
-                return -1;
-            } else {
-                if (this.day > o.day) {
-                    return 1;
-                } else if (this.day < o.day) {
-                    return -1;
-                } else {
-                    if (this.hour > o.hour) {
-                        return 1;
-                    } else if (this.hour < o.hour) {
-                        return -1;
-                    } else {
-                        if (this.minute > o.minute) {
-                            return 1;
-                        } else if (this.minute < o.minute) {
-                            return -1;
-                        } else {
-                            if (this.second > o.second) {
-                                return 1;
-                            } else if (this.second < o.second) {
-                                return -1;
-                            } else {
-                                return Integer.compare(this.millisecond, o.millisecond);
-                            }
-                        }
-                    }
-                }
-            }
+        return Long.compare(pack(year, month, day, hour, minute, second, millisecond),
+                pack(o.year, o.month, o.day, o.hour, o.minute, o.second, o.millisecond));
+    }
+
+    /**
+     * Packs the date and time into a long whose order is the order of the dates, so that the packed dates can be
+     * compared, sorted and hashed as longs. From the most significant bits, it has 28 bits of the year (signed),
+     * 4 bits of the month, 5 bits of the day, 5 bits of the hour, 6 bits of the minute, 6 bits of the second and
+     * 10 bits of the millisecond. The time zone is not packed.
+     *
+     * @return the packed date
+     * @throws IllegalArgumentException if a field does not fit in its bits, e.g. a negative month
+     * @see #fromPackedLong(long, TimeZone)
+     */
+    public long toPackedLong() {
+        if (!isPackable(this)) {
+            throw new IllegalArgumentException("the date " + this + " cannot be packed.");
         }
+        return pack(year, month, day, hour, minute, second, millisecond);
+    }
+
+    /**
+     * @param packed the date packed by {@link #toPackedLong()}
+     * @return the date with the default time zone
+     */
+    public static JalaliDate fromPackedLong(long packed) {
+        return fromPackedLong(packed, TimeZone.getDefault());
+    }
+
+    /**
+     * @param packed   the date packed by {@link #toPackedLong()}
+     * @param timeZone timeZone
+     * @return the date with the given time zone
+     */
+    public static JalaliDate fromPackedLong(long packed, TimeZone timeZone) {
+        return new JalaliDate((int) (packed >> 36), (int) (packed >>> 32) & 0xF, (int) (packed >>> 27) & 0x1F,
+                (int) (packed >>> 22) & 0x1F, (int) (packed >>> 16) & 0x3F, (int) (packed >>> 10) & 0x3F,
+                (int) packed & 0x3FF, timeZone);
+    }
+
+    private static long pack(int year, int month, int day, int hour, int minute, int second, int millisecond) {
+        return (long) year << 36 | (long) (month & 0xF) << 32 | (long) (day & 0x1F) << 27 | (hour & 0x1F) << 22
+                | (minute & 0x3F) << 16 | (second & 0x3F) << 10 | millisecond & 0x3FF;
+    }
+
+    boolean isPackable() {
+        return isPackable(this);
+    }
+
+    private static boolean isPackable(JalaliDate o) {
+        return o.year >= -(1 << 27) && o.year < 1 << 27 && (o.month & ~0xF) == 0 && (o.day & ~0x1F) == 0
+                && (o.hour & ~0x1F) == 0 && (o.minute & ~0x3F) == 0 && (o.second & ~0x3F) == 0
+                && (o.millisecond & ~0x3FF) == 0;
     }
 
+    /**
+     * @return the date as yyyy/MM/dd HH:mm:ss
+     */
     @Override
     public String toString() {
-        Formatter formatter = new Formatter();
-        return formatter.format("%1$04d/%2$02d/%3$02d %4$02d:%5$02d:%6$02d",
-                year, month, day, hour, minute, second).toString();
+        return appendTo(new StringBuilder(19)).toString();
+    }
+
+    /**
+     * Appends the date as yyyy/MM/dd HH:mm:ss, the same as {@link #toString()}.
+     *
+     * @param sb the destination
+     * @return the destination
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        DigitUtil.appendPadded(sb, year, 4);
+        sb.append('/');
+        DigitUtil.appendPadded(sb, month, 2);
+        sb.append('/');
+        DigitUtil.appendPadded(sb, day, 2);
+        sb.append(' ');
+        DigitUtil.appendPadded(sb, hour, 2);
+        sb.append(':');
+        DigitUtil.appendPadded(sb, minute, 2);
+        sb.append(':');
+        DigitUtil.appendPadded(sb, second, 2);
+        return sb;
+    }
+
+    /**
+     * Appends the date as yyyy/MM/dd HH:mm:ss, the same as {@link #toString()}.
+     *
+     * @param appendable the destination
+     * @return the destination
+     * @throws IOException if the destination throws it
+     */
+    public <A extends Appendable> A appendTo(A appendable) throws IOException {
+        DigitUtil.appendPadded(appendable, year, 4);
+        appendable.append('/');
+        DigitUtil.appendPadded(appendable, month, 2);
+        appendable.append('/');
+        DigitUtil.appendPadded(appendable, day, 2);
+        appendable.append(' ');
+        DigitUtil.appendPadded(appendable, hour, 2);
+        appendable.append(':');
+        DigitUtil.appendPadded(appendable, minute, 2);
+        appendable.append(':');
+        DigitUtil.appendPadded(appendable, second, 2);
+        return appendable;
+    }
+
+    /**
+     * Writes the date as the ascii bytes of yyyy/MM/dd HH:mm:ss, the same as {@link #toString()}.
+     * It is 19 bytes for a valid date.
+     *
+     * @param bytes  the destination
+     * @param offset the index of the first byte to write
+     * @return the index after the last written byte
+     */
+    public int writeAscii(byte[] bytes, int offset) {
+        offset = DigitUtil.writePadded(bytes, offset, year, 4);
+        bytes[offset++] = '/';
+        offset = DigitUtil.writePadded(bytes, offset, month, 2);
+        bytes[offset++] = '/';
+        offset = DigitUtil.writePadded(bytes, offset, day, 2);
+        bytes[offset++] = ' ';
+        offset = DigitUtil.writePadded(bytes, offset, hour, 2);
+        bytes[offset++] = ':';
+        offset = DigitUtil.writePadded(bytes, offset, minute, 2);
+        bytes[offset++] = ':';
+        return DigitUtil.writePadded(bytes, offset, second, 2);
     }
 
     public boolean isValid() {
@@ -145,29 +222,33 @@ public class JalaliDate implements Serializable, Comparable<JalaliDate> {
     }
 
     private boolean isValid(JalaliDate o) {
-        if (!(0 <= o.hour && o.hour < 24)) {
+        return isValid(o.year, o.month, o.day, o.hour, o.minute, o.second);
+    }
+
+    static boolean isValid(int year, int month, int day, int hour, int minute, int second) {
+        if (!(0 <= hour && hour < 24)) {
             return false;
         }
-        if (!(0 <= o.minute && o.minute < 60)) {
+        if (!(0 <= minute && minute < 60)) {
             return false;
         }
-        if (!(0 <= o.second && o.second < 60)) {
+        if (!(0 <= second && second < 60)) {
             return false;
         }
-        if (o.year == 0 && o.month == 0 && o.day == 0 && o.hour == 0 && o.minute == 0 && o.second == 0) {
+        if (year == 0 && month == 0 && day == 0 && hour == 0 && minute == 0 && second == 0) {
             return false;
         }
-        if (!(1 <= o.month && o.month <= 12)) {
+        if (!(1 <= month && month <= 12)) {
             return false;
         }
-        if (!(1 <= o.day && o.day <= 31)) {
+        if (!(1 <= day && day <= 31)) {
             return false;
         }
-        if (o.year < 0) {
+        if (year < 0) {
             return false;
         }
-        return (o.month <= 6) || (o.month < 12 && o.day <= 30) || (o.month == 12 && (o.day < 30 ||
-                (o.day == 30 && JalaliUtil.isLeapYear(o.year))));
+        return (month <= 6) || (month < 12 && day <= 30) || (month == 12 && (day < 30 ||
+                (day == 30 && JalaliUtil.isLeapYear(year))));
     }
 
     public int getYear() {
@@ -233,4 +314,12 @@ public class JalaliDate implements Serializable, Comparable<JalaliDate> {
     public void setTimeZone(TimeZone timeZone) {
         this.timeZone = timeZone;
     }
+
+    /**
+     * Serializes the date compactly by {@link JalaliDateProxy}; the streams of the default serialized form are
+     * still readable.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new JalaliDateProxy(this);
+    }
 }
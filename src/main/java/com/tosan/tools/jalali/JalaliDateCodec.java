@@ -0,0 +1,204 @@
+package com.tosan.tools.jalali;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encodes {@link JalaliDate} in a fixed number of bytes: 8 bytes of the date packed by
+ * {@link JalaliDate#toPackedLong()}, optionally followed by 4 bytes of the time zone code.
+ * <p>
+ * The time zone code is the {@link String#hashCode()} of the zone ID, which is stable across JVMs, and 0 for
+ * no time zone. Only the ID of a zone is encoded, so a zone with custom rules is decoded as the zone of its ID.
+ * The IDs of {@link TimeZone#getAvailableIDs()} and the custom IDs of the form GMT+hh:mm are known; other IDs must
+ * be registered by {@link #registerZoneId(String)} on both sides.
+ * <p>
+ * The sortable keys are big-endian with the sign bit of the packed date flipped, so that comparing the keys as
+ * unsigned bytes, e.g. as the keys of a cache or a Kafka topic, orders them by the date.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliDateCodec {
+    /**
+     * The number of bytes of a date without the time zone.
+     */
+    public static final int DATE_SIZE = 8;
+    /**
+     * The number of bytes of a date with the time zone.
+     */
+    public static final int SIZE = 12;
+
+    private JalaliDateCodec() {
+    }
+
+    /**
+     * Registers a zone ID that is not one of the known IDs, so that it can be encoded and decoded.
+     * The code is decoded to the zone of the ID by {@link TimeZone#getTimeZone(String)}.
+     *
+     * @param zoneId zoneId
+     * @throws IllegalArgumentException if the code of the ID is 0, the code of no time zone, or the code of
+     *                                  another ID
+     */
+    public static void registerZoneId(String zoneId) {
+        if (zoneId.hashCode() == 0) {
+            throw new IllegalArgumentException("the code of the zone ID " + zoneId + " is the code of no time zone.");
+        }
+        String registered = ZoneIds.IDS.putIfAbsent(zoneId.hashCode(), zoneId);
+        if (registered != null && !registered.equals(zoneId)) {
+            throw new IllegalArgumentException("the code of the zone ID " + zoneId + " is not unique.");
+        }
+    }
+
+    /**
+     * @param timeZone timeZone, may be null
+     * @return the code of the time zone
+     * @throws IllegalArgumentException if the ID of the time zone is not known
+     */
+    public static int zoneCode(TimeZone timeZone) {
+        if (timeZone == null) {
+            return 0;
+        }
+        String id = timeZone.getID();
+        if (!id.equals(ZoneIds.IDS.get(id.hashCode()))) {
+            throw new IllegalArgumentException("the zone ID " + id + " is not registered.");
+        }
+        return id.hashCode();
+    }
+
+    /**
+     * @param zoneCode the code of a time zone
+     * @return the time zone, or null for the code 0
+     * @throws IllegalArgumentException if the code is not known
+     */
+    public static TimeZone timeZone(int zoneCode) {
+        if (zoneCode == 0) {
+            return null;
+        }
+        String id = ZoneIds.IDS.get(zoneCode);
+        if (id == null) {
+            throw new IllegalArgumentException("the zone code " + zoneCode + " is not registered.");
+        }
+        return TimeZone.getTimeZone(id);
+    }
+
+    /**
+     * Writes the date and the time zone in 12 bytes, in the byte order of the buffer.
+     */
+    public static void write(JalaliDate jalaliDate, ByteBuffer buffer) {
+        int zoneCode = zoneCode(jalaliDate.getTimeZone());
+        buffer.putLong(jalaliDate.toPackedLong());
+        buffer.putInt(zoneCode);
+    }
+
+    /**
+     * Reads a date and its time zone written by {@link #write(JalaliDate, ByteBuffer)}.
+     */
+    public static JalaliDate read(ByteBuffer buffer) {
+        long packed = buffer.getLong();
+        return fromPackedLong(packed, timeZone(buffer.getInt()));
+    }
+
+    /**
+     * Writes the date in 8 bytes, without the time zone, in the byte order of the buffer.
+     */
+    public static void writeDate(JalaliDate jalaliDate, ByteBuffer buffer) {
+        buffer.putLong(jalaliDate.toPackedLong());
+    }
+
+    /**
+     * Reads a date written by {@link #writeDate(JalaliDate, ByteBuffer)} and sets the given time zone on it.
+     */
+    public static JalaliDate readDate(ByteBuffer buffer, TimeZone timeZone) {
+        return JalaliDate.fromPackedLong(buffer.getLong(), timeZone);
+    }
+
+    /**
+     * Writes the date and the time zone in 12 bytes.
+     */
+    public static void write(JalaliDate jalaliDate, DataOutput out) throws IOException {
+        int zoneCode = zoneCode(jalaliDate.getTimeZone());
+        out.writeLong(jalaliDate.toPackedLong());
+        out.writeInt(zoneCode);
+    }
+
+    /**
+     * Reads a date and its time zone written by {@link #write(JalaliDate, DataOutput)}.
+     */
+    public static JalaliDate read(DataInput in) throws IOException {
+        long packed = in.readLong();
+        return fromPackedLong(packed, timeZone(in.readInt()));
+    }
+
+    /**
+     * @return the 12 bytes of the date and the time zone, ordered by the date when compared as unsigned bytes
+     */
+    public static byte[] toSortableKey(JalaliDate jalaliDate) {
+        int zoneCode = zoneCode(jalaliDate.getTimeZone());
+        long key = jalaliDate.toPackedLong() ^ Long.MIN_VALUE;
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < DATE_SIZE; i++) {
+            bytes[i] = (byte) (key >>> (56 - 8 * i));
+        }
+        for (int i = 0; i < 4; i++) {
+            bytes[DATE_SIZE + i] = (byte) (zoneCode >>> (24 - 8 * i));
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a date and its time zone from a key of {@link #toSortableKey(JalaliDate)}.
+     */
+    public static JalaliDate fromSortableKey(byte[] key) {
+        if (key.length != SIZE) {
+            throw new IllegalArgumentException("the length of the key is not " + SIZE + ".");
+        }
+        long packed = 0;
+        for (int i = 0; i < DATE_SIZE; i++) {
+            packed = packed << 8 | (key[i] & 0xFF);
+        }
+        int zoneCode = 0;
+        for (int i = DATE_SIZE; i < SIZE; i++) {
+            zoneCode = zoneCode << 8 | (key[i] & 0xFF);
+        }
+        return fromPackedLong(packed ^ Long.MIN_VALUE, timeZone(zoneCode));
+    }
+
+    private static JalaliDate fromPackedLong(long packed, TimeZone timeZone) {
+        JalaliDate jalaliDate = JalaliDate.fromPackedLong(packed, null);
+        jalaliDate.setTimeZone(timeZone);
+        return jalaliDate;
+    }
+
+    /**
+     * The known zone IDs by their codes, which are built on the first use.
+     */
+    private static final class ZoneIds {
+        private static final ConcurrentMap<Integer, String> IDS = new ConcurrentHashMap<>();
+
+        static {
+            for (String id : TimeZone.getAvailableIDs()) {
+                put(id);
+            }
+            for (int minutes = -18 * 60; minutes <= 18 * 60; minutes++) {
+                put(TimeZone.getTimeZone(String.format("GMT%s%02d:%02d", minutes < 0 ? "-" : "+",
+                        Math.abs(minutes) / 60, Math.abs(minutes) % 60)).getID());
+            }
+        }
+
+        /**
+         * Puts a known ID, unless its code is 0, the code of no time zone.
+         */
+        private static void put(String id) {
+            if (id.hashCode() != 0) {
+                IDS.putIfAbsent(id.hashCode(), id);
+            }
+        }
+    }
+}
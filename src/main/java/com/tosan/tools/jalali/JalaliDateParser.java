@@ -0,0 +1,308 @@
+package com.tosan.tools.jalali;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses the fixed layouts of jalali dates directly from the digits of a {@link CharSequence}, a byte array or
+ * a {@link ByteBuffer}, without allocating any object and without throwing an exception for invalid input.
+ * <p>
+ * The supported date layouts are yyyyMMdd (e.g. 14030115) and yyyy?MM?dd with the same separator at both
+ * places (e.g. 1403/01/15 or 1403-01-15). A date time is a date followed by a space or 'T' and HH:mm:ss,
+ * optionally followed by .SSS (e.g. 1403-01-15 10:20:30 or 1403-01-15T10:20:30.450).
+ * The parsed values are validated with the same rules as {@link JalaliDate#isValid()}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliDateParser {
+    /**
+     * Returned by the parseDate methods when the text is not a valid date.
+     */
+    public static final int INVALID = -1;
+
+    private JalaliDateParser() {
+    }
+
+    /**
+     * @param text text
+     * @return the date packed as yyyymmdd, like {@link JalaliUtil#fromEpochDay(long)}, or {@link #INVALID}
+     */
+    public static int parseDate(CharSequence text) {
+        return parseDate(text, 0, text.length());
+    }
+
+    /**
+     * @param text   text
+     * @param offset the index of the first character of the date
+     * @param length the length of the date, 8 or 10
+     * @return the date packed as yyyymmdd, like {@link JalaliUtil#fromEpochDay(long)}, or {@link #INVALID}
+     */
+    public static int parseDate(CharSequence text, int offset, int length) {
+        int dateLength = dateLength(text, offset, length);
+        if (dateLength != length) {
+            return INVALID;
+        }
+        return date(text, offset, dateLength);
+    }
+
+    /**
+     * @param bytes  ascii bytes
+     * @param offset the index of the first byte of the date
+     * @param length the length of the date, 8 or 10
+     * @return the date packed as yyyymmdd, like {@link JalaliUtil#fromEpochDay(long)}, or {@link #INVALID}
+     */
+    public static int parseDate(byte[] bytes, int offset, int length) {
+        int dateLength = dateLength(bytes, offset, length);
+        if (dateLength != length) {
+            return INVALID;
+        }
+        return date(bytes, offset, dateLength);
+    }
+
+    /**
+     * Parses the date at an absolute index, the position of the buffer is not changed.
+     *
+     * @param buffer ascii bytes
+     * @param index  the index of the first byte of the date
+     * @param length the length of the date, 8 or 10
+     * @return the date packed as yyyymmdd, like {@link JalaliUtil#fromEpochDay(long)}, or {@link #INVALID}
+     */
+    public static int parseDate(ByteBuffer buffer, int index, int length) {
+        if (buffer.hasArray()) {
+            return parseDate(buffer.array(), buffer.arrayOffset() + index, length);
+        }
+        int dateLength = dateLength(buffer, index, length);
+        if (dateLength != length) {
+            return INVALID;
+        }
+        return date(buffer, index, dateLength);
+    }
+
+    /**
+     * Parses a date or a date time and sets its fields on the given {@link JalaliDate}; the time zone
+     * of the target is not changed. The target is not changed either when the text is not valid.
+     *
+     * @param text   text
+     * @param offset the index of the first character
+     * @param length the length of the date time
+     * @param target the date that receives the parsed fields
+     * @return true if the text is valid
+     */
+    public static boolean parseDateTime(CharSequence text, int offset, int length, JalaliDate target) {
+        int dateLength = dateLength(text, offset, length);
+        int timeLength = length - dateLength - 1;
+        if (dateLength < 0 || (timeLength != -1 && timeLength != 8 && timeLength != 12)) {
+            return false;
+        }
+        int date = date(text, offset, dateLength);
+        if (date == INVALID) {
+            return false;
+        }
+        if (timeLength == -1) {
+            return setFields(target, date, 0, 0, 0, 0);
+        }
+        int t = offset + dateLength;
+        char separator = text.charAt(t);
+        if ((separator != ' ' && separator != 'T') || text.charAt(t + 3) != ':' || text.charAt(t + 6) != ':'
+                || (timeLength == 12 && text.charAt(t + 9) != '.')) {
+            return false;
+        }
+        int hour = number(text, t + 1, 2);
+        int minute = number(text, t + 4, 2);
+        int second = number(text, t + 7, 2);
+        int millisecond = timeLength == 12 ? number(text, t + 10, 3) : 0;
+        return setFields(target, date, hour, minute, second, millisecond);
+    }
+
+    /**
+     * Parses a date or a date time and sets its fields on the given {@link JalaliDate}; the time zone
+     * of the target is not changed. The target is not changed either when the bytes are not valid.
+     *
+     * @param bytes  ascii bytes
+     * @param offset the index of the first byte
+     * @param length the length of the date time
+     * @param target the date that receives the parsed fields
+     * @return true if the bytes are valid
+     */
+    public static boolean parseDateTime(byte[] bytes, int offset, int length, JalaliDate target) {
+        int dateLength = dateLength(bytes, offset, length);
+        int timeLength = length - dateLength - 1;
+        if (dateLength < 0 || (timeLength != -1 && timeLength != 8 && timeLength != 12)) {
+            return false;
+        }
+        int date = date(bytes, offset, dateLength);
+        if (date == INVALID) {
+            return false;
+        }
+        if (timeLength == -1) {
+            return setFields(target, date, 0, 0, 0, 0);
+        }
+        int t = offset + dateLength;
+        byte separator = bytes[t];
+        if ((separator != ' ' && separator != 'T') || bytes[t + 3] != ':' || bytes[t + 6] != ':'
+                || (timeLength == 12 && bytes[t + 9] != '.')) {
+            return false;
+        }
+        int hour = number(bytes, t + 1, 2);
+        int minute = number(bytes, t + 4, 2);
+        int second = number(bytes, t + 7, 2);
+        int millisecond = timeLength == 12 ? number(bytes, t + 10, 3) : 0;
+        return setFields(target, date, hour, minute, second, millisecond);
+    }
+
+    /**
+     * Parses a date or a date time at an absolute index and sets its fields on the given {@link JalaliDate};
+     * the position of the buffer and the time zone of the target are not changed.
+     * The target is not changed either when the bytes are not valid.
+     *
+     * @param buffer ascii bytes
+     * @param index  the index of the first byte
+     * @param length the length of the date time
+     * @param target the date that receives the parsed fields
+     * @return true if the bytes are valid
+     */
+    public static boolean parseDateTime(ByteBuffer buffer, int index, int length, JalaliDate target) {
+        if (buffer.hasArray()) {
+            return parseDateTime(buffer.array(), buffer.arrayOffset() + index, length, target);
+        }
+        int dateLength = dateLength(buffer, index, length);
+        int timeLength = length - dateLength - 1;
+        if (dateLength < 0 || (timeLength != -1 && timeLength != 8 && timeLength != 12)) {
+            return false;
+        }
+        int date = date(buffer, index, dateLength);
+        if (date == INVALID) {
+            return false;
+        }
+        if (timeLength == -1) {
+            return setFields(target, date, 0, 0, 0, 0);
+        }
+        int t = index + dateLength;
+        byte separator = buffer.get(t);
+        if ((separator != ' ' && separator != 'T') || buffer.get(t + 3) != ':' || buffer.get(t + 6) != ':'
+                || (timeLength == 12 && buffer.get(t + 9) != '.')) {
+            return false;
+        }
+        int hour = number(buffer, t + 1, 2);
+        int minute = number(buffer, t + 4, 2);
+        int second = number(buffer, t + 7, 2);
+        int millisecond = timeLength == 12 ? number(buffer, t + 10, 3) : 0;
+        return setFields(target, date, hour, minute, second, millisecond);
+    }
+
+    private static boolean setFields(JalaliDate target, int date, int hour, int minute, int second, int millisecond) {
+        if (millisecond < 0 || !JalaliDate.isValid(date / 10000, date / 100 % 100, date % 100, hour, minute, second)) {
+            return false;
+        }
+        target.setYear(date / 10000);
+        target.setMonth(date / 100 % 100);
+        target.setDay(date % 100);
+        target.setHour(hour);
+        target.setMinute(minute);
+        target.setSecond(second);
+        target.setMillisecond(millisecond);
+        return true;
+    }
+
+    private static int packIfValid(int year, int month, int day) {
+        if (year < 0 || month < 0 || day < 0 || !JalaliDate.isValid(year, month, day, 0, 0, 0)) {
+            return INVALID;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * @return the length of the date layout at the offset, 8 or 10, or -1 if there is no date layout
+     */
+    private static int dateLength(CharSequence text, int offset, int length) {
+        if (length >= 10 && DigitUtil.digit(text.charAt(offset + 4)) < 0) {
+            return 10;
+        }
+        return length >= 8 ? 8 : -1;
+    }
+
+    private static int dateLength(byte[] bytes, int offset, int length) {
+        if (length >= 10 && DigitUtil.digit(bytes[offset + 4]) < 0) {
+            return 10;
+        }
+        return length >= 8 ? 8 : -1;
+    }
+
+    private static int dateLength(ByteBuffer buffer, int index, int length) {
+        if (length >= 10 && DigitUtil.digit(buffer.get(index + 4)) < 0) {
+            return 10;
+        }
+        return length >= 8 ? 8 : -1;
+    }
+
+    private static int date(CharSequence text, int offset, int dateLength) {
+        if (dateLength == 8) {
+            return packIfValid(number(text, offset, 4), number(text, offset + 4, 2), number(text, offset + 6, 2));
+        }
+        if (text.charAt(offset + 4) != text.charAt(offset + 7)) {
+            return INVALID;
+        }
+        return packIfValid(number(text, offset, 4), number(text, offset + 5, 2), number(text, offset + 8, 2));
+    }
+
+    private static int date(byte[] bytes, int offset, int dateLength) {
+        if (dateLength == 8) {
+            return packIfValid(number(bytes, offset, 4), number(bytes, offset + 4, 2), number(bytes, offset + 6, 2));
+        }
+        if (bytes[offset + 4] != bytes[offset + 7]) {
+            return INVALID;
+        }
+        return packIfValid(number(bytes, offset, 4), number(bytes, offset + 5, 2), number(bytes, offset + 8, 2));
+    }
+
+    private static int date(ByteBuffer buffer, int index, int dateLength) {
+        if (dateLength == 8) {
+            return packIfValid(number(buffer, index, 4), number(buffer, index + 4, 2), number(buffer, index + 6, 2));
+        }
+        if (buffer.get(index + 4) != buffer.get(index + 7)) {
+            return INVALID;
+        }
+        return packIfValid(number(buffer, index, 4), number(buffer, index + 5, 2), number(buffer, index + 8, 2));
+    }
+
+    /**
+     * @return the value of the digits, or a negative value if any of them is not a digit
+     */
+    private static int number(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = DigitUtil.digit(text.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int number(byte[] bytes, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = DigitUtil.digit(bytes[i]);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int number(ByteBuffer buffer, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            int digit = DigitUtil.digit(buffer.get(i));
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,83 @@
+package com.tosan.tools.jalali;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.TimeZone;
+
+/**
+ * The serialized form of {@link JalaliDate}: a flags byte, the date packed by {@link JalaliDate#toPackedLong()}
+ * (or its seven fields if it cannot be packed) and the ID of the time zone, which is written only once per stream
+ * by {@link ObjectOutput#writeObject(Object)}. A time zone whose rules are not the rules of its ID is written as is.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+final class JalaliDateProxy implements Externalizable {
+    private static final long serialVersionUID = -4213052480931650127L;
+    private static final int PACKED = 1;
+    private static final int ZONE_ID = 2;
+    private static final int ZONE = 4;
+
+    private JalaliDate jalaliDate;
+
+    public JalaliDateProxy() {
+    }
+
+    JalaliDateProxy(JalaliDate jalaliDate) {
+        this.jalaliDate = jalaliDate;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        TimeZone timeZone = jalaliDate.getTimeZone();
+        boolean packed = jalaliDate.isPackable();
+        int flags = packed ? PACKED : 0;
+        if (timeZone != null) {
+            flags |= TimeZone.getTimeZone(timeZone.getID()).hasSameRules(timeZone) ? ZONE_ID : ZONE;
+        }
+        out.writeByte(flags);
+        if (packed) {
+            out.writeLong(jalaliDate.toPackedLong());
+        } else {
+            out.writeInt(jalaliDate.getYear());
+            out.writeInt(jalaliDate.getMonth());
+            out.writeInt(jalaliDate.getDay());
+            out.writeInt(jalaliDate.getHour());
+            out.writeInt(jalaliDate.getMinute());
+            out.writeInt(jalaliDate.getSecond());
+            out.writeInt(jalaliDate.getMillisecond());
+        }
+        if ((flags & ZONE_ID) != 0) {
+            out.writeObject(timeZone.getID());
+        } else if ((flags & ZONE) != 0) {
+            out.writeObject(timeZone);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int flags = in.readByte();
+        JalaliDate date;
+        if ((flags & PACKED) != 0) {
+            date = JalaliDate.fromPackedLong(in.readLong(), null);
+        } else {
+            date = new JalaliDate(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                    in.readInt(), null);
+        }
+        if ((flags & ZONE_ID) != 0) {
+            date.setTimeZone(TimeZone.getTimeZone((String) in.readObject()));
+        } else if ((flags & ZONE) != 0) {
+            date.setTimeZone((TimeZone) in.readObject());
+        } else {
+            date.setTimeZone(null);
+        }
+        jalaliDate = date;
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return jalaliDate;
+    }
+}
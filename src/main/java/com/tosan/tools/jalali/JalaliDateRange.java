@@ -0,0 +1,267 @@
+package com.tosan.tools.jalali;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable range of {@link JalaliDay} from a start day (inclusive) to an end day (exclusive), stepped by a number
+ * of days, weeks, months or years, e.g. <code>JalaliDateRange.of(start, end).withStep(1, ChronoUnit.MONTHS)</code>.
+ * <p>
+ * The element at an index is computed directly from the start day, so iterating the range costs O(1) per day and
+ * its {@link #spliterator()} splits the range in halves by index, which is even in days, for parallel streams.
+ * A monthly or yearly step keeps the day of month of the start day, clamped to the length of the month,
+ * e.g. 1403/06/31, 1403/07/30, 1403/08/30.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliDateRange implements Iterable<JalaliDay> {
+    private final JalaliDay start;
+    private final JalaliDay end;
+    private final int step;
+    private final ChronoUnit unit;
+    private final int size;
+
+    private JalaliDateRange(JalaliDay start, JalaliDay end, int step, ChronoUnit unit) {
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.unit = unit;
+        this.size = computeSize();
+    }
+
+    /**
+     * @param start the first day
+     * @param end   the day after the last day
+     * @return the range of the days from the start to the end, which is empty if the end is not after the start
+     */
+    public static JalaliDateRange of(JalaliDay start, JalaliDay end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("the start and the end of the range must not be null.");
+        }
+        return new JalaliDateRange(start, end, 1, ChronoUnit.DAYS);
+    }
+
+    /**
+     * @param step the positive number of the units between the elements
+     * @param unit {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS}, {@link ChronoUnit#MONTHS} or
+     *             {@link ChronoUnit#YEARS}
+     * @return a copy of this range with the given step
+     */
+    public JalaliDateRange withStep(int step, ChronoUnit unit) {
+        if (step < 1) {
+            throw new IllegalArgumentException("the step " + step + " is not positive.");
+        }
+        if (unit != ChronoUnit.DAYS && unit != ChronoUnit.WEEKS && unit != ChronoUnit.MONTHS
+                && unit != ChronoUnit.YEARS) {
+            throw new IllegalArgumentException("the unit " + unit + " is not supported.");
+        }
+        return new JalaliDateRange(start, end, step, unit);
+    }
+
+    private int computeSize() {
+        long days = end.toEpochDay() - start.toEpochDay();
+        if (days <= 0) {
+            return 0;
+        }
+        if (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) {
+            long stepDays = unit == ChronoUnit.DAYS ? step : 7L * step;
+            return (int) ((days + stepDays - 1) / stepDays);
+        }
+        long months = (end.getYear() * 12L + end.getMonth()) - (start.getYear() * 12L + start.getMonth());
+        int size = (int) (months / stepMonths());
+        while (epochDayOfMonths(size) < end.toEpochDay()) {
+            size++;
+        }
+        while (size > 0 && epochDayOfMonths(size - 1) >= end.toEpochDay()) {
+            size--;
+        }
+        return size;
+    }
+
+    private long stepMonths() {
+        return unit == ChronoUnit.MONTHS ? step : 12L * step;
+    }
+
+    /**
+     * @return the epoch day of the element of a monthly or yearly step at the index, which may be out of the range
+     * and out of the years of {@link JalaliDay}
+     */
+    private long epochDayOfMonths(long index) {
+        int packed = monthlyDate(index);
+        return JalaliUtil.toEpochDay(packed / 10000, packed / 100 % 100, packed % 100);
+    }
+
+    /**
+     * @return the element of a monthly or yearly step at the index packed as yyyymmdd
+     */
+    private int monthlyDate(long index) {
+        long months = start.getYear() * 12L + start.getMonth() - 1 + index * stepMonths();
+        int year = (int) (months / 12);
+        int month = (int) (months % 12) + 1;
+        int lengthOfMonth = month <= 6 ? 31 : month < 12 ? 30 : JalaliUtil.isLeapYear(year) ? 30 : 29;
+        return year * 10000 + month * 100 + Math.min(start.getDay(), lengthOfMonth);
+    }
+
+    /**
+     * @param index the index of the element, started from zero
+     * @return the element at the index, which must be in the range
+     */
+    private JalaliDay get(long index) {
+        switch (unit) {
+            case DAYS:
+                return start.plusDays(index * step);
+            case WEEKS:
+                return start.plusDays(index * step * 7);
+            default:
+                int packed = monthlyDate(index);
+                return JalaliDay.of(packed / 10000, packed / 100 % 100, packed % 100);
+        }
+    }
+
+    /**
+     * @param index the index of the element, started from zero
+     * @return the element at the index
+     * @throws IndexOutOfBoundsException if the index is not less than the size
+     */
+    public JalaliDay get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("the index " + index + " is not in the range of size " + size + ".");
+        }
+        return get((long) index);
+    }
+
+    public JalaliDay getStart() {
+        return start;
+    }
+
+    public JalaliDay getEnd() {
+        return end;
+    }
+
+    /**
+     * @return the number of the elements
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<JalaliDay> iterator() {
+        return new Iterator<JalaliDay>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public JalaliDay next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get((long) index++);
+            }
+        };
+    }
+
+    /**
+     * @return a sized spliterator which splits the range in halves by index
+     */
+    @Override
+    public Spliterator<JalaliDay> spliterator() {
+        return new RangeSpliterator(0, size);
+    }
+
+    /**
+     * @return a sequential stream of the elements, which can be made parallel
+     */
+    public Stream<JalaliDay> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        JalaliDateRange that = (JalaliDateRange) o;
+        return start == that.start && end == that.end && step == that.step && unit == that.unit;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((start.hashCode() * 31 + end.hashCode()) * 31 + step) * 31 + unit.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ") by " + step + " " + unit;
+    }
+
+    private final class RangeSpliterator implements Spliterator<JalaliDay> {
+        private int index;
+        private final int fence;
+
+        private RangeSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JalaliDay> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(get((long) index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super JalaliDay> action) {
+            for (; index < fence; index++) {
+                action.accept(get((long) index));
+            }
+        }
+
+        @Override
+        public Spliterator<JalaliDay> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<JalaliDay> prefix = new RangeSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super JalaliDay> getComparator() {
+            return null;
+        }
+    }
+}
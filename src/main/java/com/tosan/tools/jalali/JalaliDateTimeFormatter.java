@@ -0,0 +1,466 @@
+package com.tosan.tools.jalali;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Formats and parses {@link JalaliDate} with a pattern that is compiled once, e.g.
+ * <code>JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")</code>.
+ * Unlike {@link JalaliUtil#parseJalaliDate(String, String)}, it does not use {@link java.text.SimpleDateFormat}
+ * or {@link java.util.Calendar}, and as it is immutable and thread-safe, it can be shared as a static constant.
+ * <p>
+ * The supported pattern letters are y (year), M (month), d (day), H (hour of day), m (minute), s (second),
+ * S (millisecond) and E (the name of the day of week). The count of a letter is the minimum width of the number,
+ * e.g. MM formats the month 1 as 01, and three or more M are the name of the month.
+ * A text between single quotes is a literal, two single quotes are a quote, and any character other than a letter
+ * is a literal too. A number is parsed greedily, unless it is followed by another number without any literal
+ * between them, in which case exactly the count of its letters is parsed, e.g. yyyyMMdd.
+ * A two-digit year is parsed as 14yy, like {@link JalaliUtil#parseJalaliDate(String, String)}.
+ * <p>
+ * The names and the digits are of the locale of {@link #withLocale(Locale)}: the English transliteration with the
+ * ascii digits by default, e.g. 15 Farvardin 1403, or Persian with the Persian digits, e.g. ۱۵ فروردین ۱۴۰۳.
+ * They are rendered from the precomputed tables of the locale in a single pass.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliDateTimeFormatter {
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int MILLISECOND = 7;
+    private static final int MONTH_NAME = 8;
+    private static final int DAY_OF_WEEK = 9;
+    private static final int MAX_DIGITS = 9;
+
+    private final String pattern;
+    private final int[] kinds;
+    private final int[] widths;
+    private final boolean[] fixedWidths;
+    private final String[] literals;
+    private final TimeZone timeZone;
+    private final Symbols symbols;
+
+    private JalaliDateTimeFormatter(String pattern, int[] kinds, int[] widths, boolean[] fixedWidths,
+                                    String[] literals, TimeZone timeZone, Symbols symbols) {
+        this.pattern = pattern;
+        this.kinds = kinds;
+        this.widths = widths;
+        this.fixedWidths = fixedWidths;
+        this.literals = literals;
+        this.timeZone = timeZone;
+        this.symbols = symbols;
+    }
+
+    /**
+     * @param pattern pattern, e.g. yyyy/MM/dd HH:mm:ss
+     * @return the compiled formatter
+     * @throws IllegalArgumentException if the pattern is not valid
+     */
+    public static JalaliDateTimeFormatter ofPattern(String pattern) {
+        List<Integer> kinds = new ArrayList<>();
+        List<Integer> widths = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                StringBuilder literal = new StringBuilder();
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                } else {
+                    i++;
+                    while (true) {
+                        if (i >= length) {
+                            throw new IllegalArgumentException("unterminated quote in the pattern " + pattern);
+                        }
+                        if (pattern.charAt(i) == '\'') {
+                            if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                                literal.append('\'');
+                                i += 2;
+                            } else {
+                                i++;
+                                break;
+                            }
+                        } else {
+                            literal.append(pattern.charAt(i++));
+                        }
+                    }
+                }
+                addLiteral(kinds, widths, literals, literal.toString());
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int kind = kindOf(c, pattern);
+                int start = i;
+                while (i < length && pattern.charAt(i) == c) {
+                    i++;
+                }
+                kinds.add(kind == MONTH && i - start >= 3 ? MONTH_NAME : kind);
+                widths.add(i - start);
+                literals.add(null);
+            } else {
+                addLiteral(kinds, widths, literals, String.valueOf(c));
+                i++;
+            }
+        }
+
+        int size = kinds.size();
+        int[] kindArray = new int[size];
+        int[] widthArray = new int[size];
+        boolean[] fixedWidthArray = new boolean[size];
+        for (int j = 0; j < size; j++) {
+            kindArray[j] = kinds.get(j);
+            widthArray[j] = widths.get(j);
+        }
+        for (int j = 0; j < size - 1; j++) {
+            fixedWidthArray[j] = isNumber(kindArray[j]) && isNumber(kindArray[j + 1]);
+        }
+        return new JalaliDateTimeFormatter(pattern, kindArray, widthArray, fixedWidthArray,
+                literals.toArray(new String[0]), null, Symbols.ENGLISH);
+    }
+
+    private static void addLiteral(List<Integer> kinds, List<Integer> widths, List<String> literals, String literal) {
+        int last = kinds.size() - 1;
+        if (last >= 0 && kinds.get(last) == LITERAL) {
+            literals.set(last, literals.get(last) + literal);
+        } else if (!literal.isEmpty()) {
+            kinds.add(LITERAL);
+            widths.add(0);
+            literals.add(literal);
+        }
+    }
+
+    private static boolean isNumber(int kind) {
+        return kind != LITERAL && kind != MONTH_NAME && kind != DAY_OF_WEEK;
+    }
+
+    private static int kindOf(char letter, String pattern) {
+        switch (letter) {
+            case 'y':
+                return YEAR;
+            case 'M':
+                return MONTH;
+            case 'd':
+                return DAY;
+            case 'H':
+                return HOUR;
+            case 'm':
+                return MINUTE;
+            case 's':
+                return SECOND;
+            case 'S':
+                return MILLISECOND;
+            case 'E':
+                return DAY_OF_WEEK;
+            default:
+                throw new IllegalArgumentException("the pattern letter " + letter + " of the pattern " + pattern +
+                        " is not supported.");
+        }
+    }
+
+    /**
+     * Returns a copy of this formatter that assigns the given time zone to the parsed dates.
+     * By default, the parsed dates have the default time zone, like the constructors of {@link JalaliDate}.
+     *
+     * @param timeZone timeZone
+     * @return the formatter
+     */
+    public JalaliDateTimeFormatter withTimeZone(TimeZone timeZone) {
+        return new JalaliDateTimeFormatter(pattern, kinds, widths, fixedWidths, literals, timeZone, symbols);
+    }
+
+    /**
+     * Returns a copy of this formatter with the names and the digits of the given locale.
+     *
+     * @param locale the Persian locale, e.g. fa_IR, or the English locale for the transliterated names
+     * @return the formatter
+     * @throws IllegalArgumentException if the language of the locale is not Persian or English
+     */
+    public JalaliDateTimeFormatter withLocale(Locale locale) {
+        Symbols symbols;
+        if (Symbols.PERSIAN.locale.getLanguage().equals(locale.getLanguage())) {
+            symbols = Symbols.PERSIAN;
+        } else if (Symbols.ENGLISH.locale.getLanguage().equals(locale.getLanguage())) {
+            symbols = Symbols.ENGLISH;
+        } else {
+            throw new IllegalArgumentException("the locale " + locale + " is not supported.");
+        }
+        return new JalaliDateTimeFormatter(pattern, kinds, widths, fixedWidths, literals, timeZone, symbols);
+    }
+
+    public String format(JalaliDate jalaliDate) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 4);
+        formatTo(jalaliDate, sb);
+        return sb.toString();
+    }
+
+    public String format(JalaliCalendar jalaliCalendar) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 4);
+        formatTo(jalaliCalendar, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the formatted date to the given {@link StringBuilder}.
+     *
+     * @param jalaliDate jalaliDate
+     * @param sb         the destination
+     * @return the destination
+     */
+    public StringBuilder formatTo(JalaliDate jalaliDate, StringBuilder sb) {
+        return formatTo(jalaliDate.getYear(), jalaliDate.getMonth(), jalaliDate.getDay(), jalaliDate.getHour(),
+                jalaliDate.getMinute(), jalaliDate.getSecond(), jalaliDate.getMillisecond(), sb);
+    }
+
+    /**
+     * Appends the formatted date of the calendar to the given {@link StringBuilder}.
+     *
+     * @param jalaliCalendar jalaliCalendar
+     * @param sb             the destination
+     * @return the destination
+     */
+    public StringBuilder formatTo(JalaliCalendar jalaliCalendar, StringBuilder sb) {
+        return formatTo(jalaliCalendar.get(Calendar.YEAR), jalaliCalendar.get(Calendar.MONTH) + 1,
+                jalaliCalendar.get(Calendar.DAY_OF_MONTH), jalaliCalendar.get(Calendar.HOUR_OF_DAY),
+                jalaliCalendar.get(Calendar.MINUTE), jalaliCalendar.get(Calendar.SECOND),
+                jalaliCalendar.get(Calendar.MILLISECOND), sb);
+    }
+
+    private StringBuilder formatTo(int year, int month, int day, int hour, int minute, int second, int millisecond,
+                                   StringBuilder sb) {
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LITERAL:
+                    sb.append(literals[i]);
+                    break;
+                case YEAR:
+                    appendNumber(sb, widths[i] == 2 ? year % 100 : year, widths[i]);
+                    break;
+                case MONTH:
+                    appendNumber(sb, month, widths[i]);
+                    break;
+                case MONTH_NAME:
+                    if (month < 1 || month > 12) {
+                        throw new IllegalArgumentException("the month " + month + " is not valid.");
+                    }
+                    sb.append(symbols.months[month - 1]);
+                    break;
+                case DAY_OF_WEEK:
+                    // the epoch day 0 is a Thursday, the sixth day of the jalali week from Saturday
+                    sb.append(symbols.weekdays[(int) Math.floorMod(JalaliUtil.toEpochDay(year, month, day) + 5, 7L)]);
+                    break;
+                case DAY:
+                    appendNumber(sb, day, widths[i]);
+                    break;
+                case HOUR:
+                    appendNumber(sb, hour, widths[i]);
+                    break;
+                case MINUTE:
+                    appendNumber(sb, minute, widths[i]);
+                    break;
+                case SECOND:
+                    appendNumber(sb, second, widths[i]);
+                    break;
+                default:
+                    appendNumber(sb, millisecond, widths[i]);
+                    break;
+            }
+        }
+        return sb;
+    }
+
+    private void appendNumber(StringBuilder sb, int value, int width) {
+        if (symbols.digits == null) {
+            DigitUtil.appendPadded(sb, value, width);
+        } else {
+            DigitUtil.appendPadded(sb, value, width, symbols.digits);
+        }
+    }
+
+    /**
+     * Parses the whole text. The fields that are not in the pattern are 1 for the month and the day, and 0 for
+     * the time fields.
+     *
+     * @param text text
+     * @return the parsed date
+     * @throws IllegalArgumentException if the text does not match the pattern or the date is not valid
+     */
+    public JalaliDate parse(CharSequence text) {
+        int year = 0;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millisecond = 0;
+        int position = 0;
+        int length = text.length();
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == LITERAL) {
+                String literal = literals[i];
+                if (length - position < literal.length()) {
+                    throw notValid(text);
+                }
+                for (int j = 0; j < literal.length(); j++) {
+                    if (text.charAt(position++) != literal.charAt(j)) {
+                        throw notValid(text);
+                    }
+                }
+                continue;
+            }
+            if (kinds[i] == MONTH_NAME || kinds[i] == DAY_OF_WEEK) {
+                char[][] names = kinds[i] == MONTH_NAME ? symbols.months : symbols.weekdays;
+                int index = matchName(text, position, names);
+                if (index < 0) {
+                    throw notValid(text);
+                }
+                position += names[index].length;
+                if (kinds[i] == MONTH_NAME) {
+                    month = index + 1;
+                }
+                continue;
+            }
+            int maxEnd = Math.min(length, position + (fixedWidths[i] ? widths[i] : MAX_DIGITS));
+            int value = 0;
+            int start = position;
+            while (position < maxEnd) {
+                int digit = symbols.digit(text.charAt(position));
+                if (digit < 0) {
+                    break;
+                }
+                value = value * 10 + digit;
+                position++;
+            }
+            if (position == start || (fixedWidths[i] && position - start != widths[i])) {
+                throw notValid(text);
+            }
+            switch (kinds[i]) {
+                case YEAR:
+                    year = position - start == 2 ? 1400 + value : value;
+                    break;
+                case MONTH:
+                    month = value;
+                    break;
+                case DAY:
+                    day = value;
+                    break;
+                case HOUR:
+                    hour = value;
+                    break;
+                case MINUTE:
+                    minute = value;
+                    break;
+                case SECOND:
+                    second = value;
+                    break;
+                default:
+                    millisecond = value;
+                    break;
+            }
+        }
+        if (position != length || millisecond > 999) {
+            throw notValid(text);
+        }
+        JalaliDate jalaliDate = new JalaliDate(year, month, day, hour, minute, second, millisecond, timeZone);
+        if (!jalaliDate.isValid()) {
+            throw notValid(text);
+        }
+        return jalaliDate;
+    }
+
+    /**
+     * @return the index of the longest name at the position of the text, or -1 if there is none
+     */
+    private static int matchName(CharSequence text, int position, char[][] names) {
+        int match = -1;
+        for (int i = 0; i < names.length; i++) {
+            char[] name = names[i];
+            if (text.length() - position < name.length || (match >= 0 && name.length <= names[match].length)) {
+                continue;
+            }
+            int j = 0;
+            while (j < name.length && text.charAt(position + j) == name[j]) {
+                j++;
+            }
+            if (j == name.length) {
+                match = i;
+            }
+        }
+        return match;
+    }
+
+    private static IllegalArgumentException notValid(CharSequence text) {
+        return new IllegalArgumentException("the date text " + text + " is not valid.");
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Locale getLocale() {
+        return symbols.locale;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * The precomputed names and digits of a locale. The days of week start from Saturday.
+     */
+    private static final class Symbols {
+        private static final Symbols ENGLISH = new Symbols(Locale.ENGLISH, null,
+                new String[]{"Farvardin", "Ordibehesht", "Khordad", "Tir", "Mordad", "Shahrivar", "Mehr", "Aban",
+                        "Azar", "Dey", "Bahman", "Esfand"},
+                new String[]{"Shanbeh", "Yekshanbeh", "Doshanbeh", "Seshanbeh", "Chaharshanbeh", "Panjshanbeh",
+                        "Jomeh"});
+        private static final Symbols PERSIAN = new Symbols(new Locale("fa", "IR"), "۰۱۲۳۴۵۶۷۸۹",
+                new String[]{"فروردین", "اردیبهشت", "خرداد", "تیر", "مرداد", "شهریور", "مهر", "آبان", "آذر", "دی",
+                        "بهمن", "اسفند"},
+                new String[]{"شنبه", "یکشنبه", "دوشنبه", "سه\u200cشنبه", "چهارشنبه", "پنج\u200cشنبه", "جمعه"});
+
+        private final Locale locale;
+        /**
+         * The digits from zero to nine, or null for the ascii digits.
+         */
+        private final char[] digits;
+        private final char[][] months;
+        private final char[][] weekdays;
+
+        private Symbols(Locale locale, String digits, String[] months, String[] weekdays) {
+            this.locale = locale;
+            this.digits = digits == null ? null : digits.toCharArray();
+            this.months = toCharArrays(months);
+            this.weekdays = toCharArrays(weekdays);
+        }
+
+        private static char[][] toCharArrays(String[] names) {
+            char[][] chars = new char[names.length][];
+            for (int i = 0; i < names.length; i++) {
+                chars[i] = names[i].toCharArray();
+            }
+            return chars;
+        }
+
+        /**
+         * @return the value of an ascii digit or a digit of the locale, or -1 if the character is not a digit
+         */
+        private int digit(char c) {
+            int value = DigitUtil.digit(c);
+            if (value < 0 && digits != null) {
+                value = c - digits[0];
+                return value >= 0 && value <= 9 ? value : -1;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.tosan.tools.jalali;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable jalali day without time and time zone, e.g. 1403/01/15, whose instances are canonical:
+ * the same day is always the same instance, so that large tables can share the days and compare them by identity.
+ * The days of a year are created together on the first use of the year and kept for the lifetime of the class.
+ * The supported years are from 979 to 9979.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliDay implements Serializable, Comparable<JalaliDay> {
+    private static final long serialVersionUID = -6532180474713955614L;
+    private static final AtomicReferenceArray<JalaliDay[]> YEARS =
+            new AtomicReferenceArray<>(JalaliUtil.MAX_YEAR - JalaliUtil.MIN_YEAR + 1);
+    private static final long MIN_EPOCH_DAY = JalaliUtil.toEpochDay(JalaliUtil.MIN_YEAR, 1, 1);
+    private static final long MAX_EPOCH_DAY = JalaliUtil.toEpochDay(JalaliUtil.MAX_YEAR + 1, 1, 1) - 1;
+
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int epochDay;
+
+    private JalaliDay(int year, int month, int day, int epochDay) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * @param year  jalali year
+     * @param month jalali month, started from one
+     * @param day   jalali day of month
+     * @return the canonical instance of the day
+     * @throws IllegalArgumentException if the date is not valid or the year is not supported
+     */
+    public static JalaliDay of(int year, int month, int day) {
+        if (year < JalaliUtil.MIN_YEAR || year > JalaliUtil.MAX_YEAR || month < 1 || month > 12 || day < 1
+                || day > (month <= 6 ? 31 : 30)) {
+            throw new IllegalArgumentException("the date " + year + "/" + month + "/" + day + " is not valid.");
+        }
+        JalaliDay[] days = year(year);
+        int dayOfYear = JalaliUtil.daysBeforeMonth(month) + day - 1;
+        if (dayOfYear >= days.length) {
+            throw new IllegalArgumentException("the date " + year + "/" + month + "/" + day + " is not valid.");
+        }
+        return days[dayOfYear];
+    }
+
+    /**
+     * @param epochDay the number of days since 1970/01/01 of the gregorian calendar
+     * @return the canonical instance of the day
+     * @throws IllegalArgumentException if the year of the day is not supported
+     */
+    public static JalaliDay ofEpochDay(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("the epoch day " + epochDay + " is not in the supported years.");
+        }
+        int year = JalaliUtil.fromEpochDay(epochDay) / 10000;
+        JalaliDay[] days = year(year);
+        return days[(int) (epochDay - days[0].epochDay)];
+    }
+
+    /**
+     * @param jalaliDate jalaliDate, whose time and time zone are ignored
+     * @return the canonical instance of the day of the date
+     * @throws IllegalArgumentException if the date is not valid or the year is not supported
+     */
+    public static JalaliDay from(JalaliDate jalaliDate) {
+        return of(jalaliDate.getYear(), jalaliDate.getMonth(), jalaliDate.getDay());
+    }
+
+    private static JalaliDay[] year(int year) {
+        JalaliDay[] days = YEARS.get(year - JalaliUtil.MIN_YEAR);
+        if (days == null) {
+            days = createYear(year);
+            if (!YEARS.compareAndSet(year - JalaliUtil.MIN_YEAR, null, days)) {
+                days = YEARS.get(year - JalaliUtil.MIN_YEAR);
+            }
+        }
+        return days;
+    }
+
+    private static JalaliDay[] createYear(int year) {
+        int start = (int) JalaliUtil.toEpochDay(year, 1, 1);
+        JalaliDay[] days = new JalaliDay[JalaliUtil.isLeapYear(year) ? 366 : 365];
+        int month = 1;
+        int day = 1;
+        for (int i = 0; i < days.length; i++) {
+            days[i] = new JalaliDay(year, month, day, start + i);
+            if (day == (month <= 6 ? 31 : 30)) {
+                month++;
+                day = 1;
+            } else {
+                day++;
+            }
+        }
+        return days;
+    }
+
+    /**
+     * @return the date at the start of the day in the default time zone
+     */
+    public JalaliDate toJalaliDate() {
+        return new JalaliDate(year, month, day);
+    }
+
+    /**
+     * @param timeZone timeZone
+     * @return the date at the start of the day in the time zone
+     */
+    public JalaliDate toJalaliDate(TimeZone timeZone) {
+        return new JalaliDate(year, month, day, 0, 0, 0, 0, timeZone);
+    }
+
+    public JalaliLocalDate toLocalDate() {
+        return JalaliLocalDate.of(year, month, day);
+    }
+
+    /**
+     * @return the number of days since 1970/01/01 of the gregorian calendar
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * @return the day after the given number of days, which is before it for a negative number
+     * @throws IllegalArgumentException if the year of the result is not supported
+     */
+    public JalaliDay plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(epochDay + days);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * @return the day of year, started from one
+     */
+    public int getDayOfYear() {
+        return JalaliUtil.daysBeforeMonth(month) + day;
+    }
+
+    @Override
+    public int compareTo(JalaliDay o) {
+        return Integer.compare(epochDay, o.epochDay);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof JalaliDay && epochDay == ((JalaliDay) o).epochDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return epochDay;
+    }
+
+    /**
+     * @return the day as yyyy/MM/dd
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(10);
+        DigitUtil.appendPadded(sb, year, 4);
+        sb.append('/');
+        DigitUtil.appendPadded(sb, month, 2);
+        sb.append('/');
+        DigitUtil.appendPadded(sb, day, 2);
+        return sb.toString();
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return of(year, month, day);
+    }
+}
@@ -0,0 +1,126 @@
+package com.tosan.tools.jalali;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in, bounded and lock-free cache of the jalali dates of the local epoch days, which is consulted by
+ * {@link JalaliUtil#gregorianToJalali(java.util.Date)} and {@link JalaliCalendar} once it is installed, e.g.
+ * <code>JalaliDayCache.install(1024)</code>.
+ * <p>
+ * The cache is direct-mapped: the consecutive days never evict each other, so a capacity of n keeps the last n days.
+ * The time zone is applied before the cache is consulted, as the jalali date of a local day does not depend on
+ * the time zone, so the days of all the time zones share the cache.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliDayCache {
+    private static volatile JalaliDayCache installed;
+
+    private final AtomicLongArray entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity the number of days, rounded up to a power of two
+     */
+    public JalaliDayCache(int capacity) {
+        if (capacity < 1 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("the capacity " + capacity + " is not between 1 and 16777216.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        entries = new AtomicLongArray(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Creates a cache and installs it for {@link JalaliUtil} and {@link JalaliCalendar}.
+     *
+     * @param capacity the number of days, rounded up to a power of two
+     * @return the installed cache
+     */
+    public static JalaliDayCache install(int capacity) {
+        JalaliDayCache cache = new JalaliDayCache(capacity);
+        installed = cache;
+        return cache;
+    }
+
+    /**
+     * Removes the installed cache, if any.
+     */
+    public static void uninstall() {
+        installed = null;
+    }
+
+    /**
+     * @return the installed cache, or null if no cache is installed
+     */
+    public static JalaliDayCache getInstalled() {
+        return installed;
+    }
+
+    /**
+     * Converts the epoch day with the installed cache, or with {@link JalaliUtil#fromEpochDay(long)} if no cache
+     * is installed.
+     */
+    static int fromEpochDay(long epochDay) {
+        JalaliDayCache cache = installed;
+        return cache == null ? JalaliUtil.fromEpochDay(epochDay) : cache.get(epochDay);
+    }
+
+    /**
+     * @param epochDay the count of days since 1970/01/01 of a local date
+     * @return the jalali date packed as yyyymmdd, like {@link JalaliUtil#fromEpochDay(long)}
+     */
+    public int get(long epochDay) {
+        if (epochDay != (int) epochDay) {
+            return JalaliUtil.fromEpochDay(epochDay);
+        }
+        int index = (int) epochDay & mask;
+        long entry = entries.get(index);
+        if (entry != 0 && (int) (entry >> 32) == (int) epochDay) {
+            hits.increment();
+            return (int) entry;
+        }
+        misses.increment();
+        int jalali = JalaliUtil.fromEpochDay(epochDay);
+        entries.lazySet(index, epochDay << 32 | (jalali & 0xFFFFFFFFL));
+        return jalali;
+    }
+
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes the cached days and resets the hit and miss counters.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, 0);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "JalaliDayCache{capacity=" + getCapacity() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + '}';
+    }
+}
@@ -0,0 +1,41 @@
+package com.tosan.tools.jalali;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+
+/**
+ * The eras of the {@link JalaliChronology}, the years of the current era are counted from the Hijra (AP).
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public enum JalaliEra implements Era {
+    /**
+     * The era before the current one, with the numeric value 0.
+     */
+    BEFORE_AP,
+    /**
+     * The current era, with the numeric value 1.
+     */
+    AP;
+
+    /**
+     * @param jalaliEra the numeric value of the era, 0 for BEFORE_AP and 1 for AP
+     * @return the era
+     */
+    public static JalaliEra of(int jalaliEra) {
+        switch (jalaliEra) {
+            case 0:
+                return BEFORE_AP;
+            case 1:
+                return AP;
+            default:
+                throw new DateTimeException("Invalid era: " + jalaliEra);
+        }
+    }
+
+    @Override
+    public int getValue() {
+        return ordinal();
+    }
+}
@@ -0,0 +1,434 @@
+package com.tosan.tools.jalali;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * An immutable date without time and time zone in the {@link JalaliChronology}, e.g. 1403/01/15.
+ * Unlike {@link JalaliDate} and {@link JalaliCalendar}, this class is thread-safe and can be used with
+ * the java.time API, e.g. <code>JalaliLocalDate.of(1403, 1, 15).atTime(LocalTime.NOON).atZone(zone)</code>.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliLocalDate implements ChronoLocalDate, Serializable {
+    private static final long serialVersionUID = 3180326283765224157L;
+
+    private final int year;
+    private final int month;
+    private final int day;
+
+    private JalaliLocalDate(int year, int month, int day) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+    }
+
+    public static JalaliLocalDate now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    public static JalaliLocalDate now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    public static JalaliLocalDate now(Clock clock) {
+        return ofEpochDay(LocalDate.now(clock).toEpochDay());
+    }
+
+    /**
+     * @param year  jalali year
+     * @param month jalali month, started from one
+     * @param day   jalali day of month
+     * @return the date
+     * @throws DateTimeException if the date is not valid
+     */
+    public static JalaliLocalDate of(int year, int month, int day) {
+        JalaliChronology.checkYear(year);
+        ChronoField.MONTH_OF_YEAR.checkValidValue(month);
+        ChronoField.DAY_OF_MONTH.checkValidValue(day);
+        if (day > 29 && day > lengthOfMonth(year, month)) {
+            throw new DateTimeException("Invalid date " + year + "/" + month + "/" + day);
+        }
+        return new JalaliLocalDate(year, month, day);
+    }
+
+    /**
+     * @param year      jalali year
+     * @param dayOfYear day of year, started from one
+     * @return the date
+     * @throws DateTimeException if the day of year is not valid
+     */
+    public static JalaliLocalDate ofYearDay(int year, int dayOfYear) {
+        JalaliChronology.checkYear(year);
+        if (dayOfYear < 1 || dayOfYear > lengthOfYear(year)) {
+            throw new DateTimeException("Invalid day of year " + dayOfYear + " for the year " + year);
+        }
+        return ofEpochDay(JalaliUtil.toEpochDay(year, 1, dayOfYear));
+    }
+
+    /**
+     * @param epochDay the number of days since 1970/01/01 of the gregorian calendar
+     * @return the date
+     * @throws DateTimeException if the epoch-day is out of the supported range
+     */
+    public static JalaliLocalDate ofEpochDay(long epochDay) {
+        JalaliChronology.EPOCH_DAY_RANGE.checkValidValue(epochDay, ChronoField.EPOCH_DAY);
+        int packed = JalaliUtil.fromEpochDay(epochDay);
+        return new JalaliLocalDate(packed / 10000, packed / 100 % 100, packed % 100);
+    }
+
+    /**
+     * @param temporal a date of any chronology, e.g. {@link LocalDate}
+     * @return the date of the same day
+     */
+    public static JalaliLocalDate from(TemporalAccessor temporal) {
+        return JalaliChronology.INSTANCE.date(temporal);
+    }
+
+    /**
+     * Returns the date part of a {@link JalaliDate}, its time and time zone are ignored.
+     *
+     * @param jalaliDate jalaliDate
+     * @return the date
+     */
+    public static JalaliLocalDate from(JalaliDate jalaliDate) {
+        return of(jalaliDate.getYear(), jalaliDate.getMonth(), jalaliDate.getDay());
+    }
+
+    static int lengthOfYear(int year) {
+        return (int) (JalaliUtil.toEpochDay(year + 1, 1, 1) - JalaliUtil.toEpochDay(year, 1, 1));
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return month <= 6 ? 31 : month < 12 ? 30 : lengthOfYear(year) - 336;
+    }
+
+    @Override
+    public JalaliChronology getChronology() {
+        return JalaliChronology.INSTANCE;
+    }
+
+    @Override
+    public JalaliEra getEra() {
+        return year >= 1 ? JalaliEra.AP : JalaliEra.BEFORE_AP;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getDayOfYear() {
+        return JalaliUtil.daysBeforeMonth(month) + day;
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        return lengthOfMonth(year, month);
+    }
+
+    @Override
+    public int lengthOfYear() {
+        return lengthOfYear(year);
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return ValueRange.of(1, lengthOfMonth());
+                case DAY_OF_YEAR:
+                    return ValueRange.of(1, lengthOfYear());
+                default:
+                    return getChronology().range((ChronoField) field);
+            }
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case DAY_OF_WEEK:
+                    return Math.floorMod(toEpochDay() + 3, 7) + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return (day - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return (getDayOfYear() - 1) % 7 + 1;
+                case DAY_OF_MONTH:
+                    return day;
+                case DAY_OF_YEAR:
+                    return getDayOfYear();
+                case EPOCH_DAY:
+                    return toEpochDay();
+                case ALIGNED_WEEK_OF_MONTH:
+                    return (day - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR:
+                    return (getDayOfYear() - 1) / 7 + 1;
+                case MONTH_OF_YEAR:
+                    return month;
+                case PROLEPTIC_MONTH:
+                    return getProlepticMonth();
+                case YEAR_OF_ERA:
+                    return year >= 1 ? year : 1 - year;
+                case YEAR:
+                    return year;
+                case ERA:
+                    return year >= 1 ? 1 : 0;
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+        return field.getFrom(this);
+    }
+
+    private long getProlepticMonth() {
+        return year * 12L + month - 1;
+    }
+
+    @Override
+    public JalaliLocalDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField chronoField = (ChronoField) field;
+            getChronology().range(chronoField).checkValidValue(newValue, chronoField);
+            int value = (int) newValue;
+            switch (chronoField) {
+                case DAY_OF_WEEK:
+                    return plusDays(newValue - getLong(ChronoField.DAY_OF_WEEK));
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return plusDays(newValue - getLong(ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH));
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return plusDays(newValue - getLong(ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR));
+                case DAY_OF_MONTH:
+                    return of(year, month, value);
+                case DAY_OF_YEAR:
+                    return ofYearDay(year, value);
+                case EPOCH_DAY:
+                    return ofEpochDay(newValue);
+                case ALIGNED_WEEK_OF_MONTH:
+                    return plusDays((newValue - getLong(ChronoField.ALIGNED_WEEK_OF_MONTH)) * 7);
+                case ALIGNED_WEEK_OF_YEAR:
+                    return plusDays((newValue - getLong(ChronoField.ALIGNED_WEEK_OF_YEAR)) * 7);
+                case MONTH_OF_YEAR:
+                    return resolvePreviousValid(year, value, day);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - getProlepticMonth());
+                case YEAR_OF_ERA:
+                    return resolvePreviousValid(year >= 1 ? value : 1 - value, month, day);
+                case YEAR:
+                    return resolvePreviousValid(value, month, day);
+                case ERA:
+                    return getLong(ChronoField.ERA) == newValue ? this : resolvePreviousValid(1 - year, month, day);
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    @Override
+    public JalaliLocalDate with(TemporalAdjuster adjuster) {
+        return (JalaliLocalDate) ChronoLocalDate.super.with(adjuster);
+    }
+
+    private static JalaliLocalDate resolvePreviousValid(int year, int month, int day) {
+        JalaliChronology.checkYear(year);
+        return new JalaliLocalDate(year, month, Math.min(day, lengthOfMonth(year, month)));
+    }
+
+    @Override
+    public JalaliLocalDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case WEEKS:
+                    return plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                case DECADES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 10));
+                case CENTURIES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 100));
+                case MILLENNIA:
+                    return plusYears(Math.multiplyExact(amountToAdd, 1000));
+                case ERAS:
+                    return with(ChronoField.ERA, Math.addExact(getLong(ChronoField.ERA), amountToAdd));
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public JalaliLocalDate plus(TemporalAmount amount) {
+        return (JalaliLocalDate) ChronoLocalDate.super.plus(amount);
+    }
+
+    @Override
+    public JalaliLocalDate minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public JalaliLocalDate minus(TemporalAmount amount) {
+        return (JalaliLocalDate) ChronoLocalDate.super.minus(amount);
+    }
+
+    public JalaliLocalDate plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(Math.addExact(toEpochDay(), days));
+    }
+
+    public JalaliLocalDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        long prolepticMonth = getProlepticMonth() + months;
+        long newYear = Math.floorDiv(prolepticMonth, 12);
+        JalaliChronology.checkYear(newYear);
+        return resolvePreviousValid((int) newYear, (int) Math.floorMod(prolepticMonth, 12) + 1, day);
+    }
+
+    public JalaliLocalDate plusYears(long years) {
+        if (years == 0) {
+            return this;
+        }
+        long newYear = year + years;
+        JalaliChronology.checkYear(newYear);
+        return resolvePreviousValid((int) newYear, month, day);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        JalaliLocalDate end = getChronology().date(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return end.toEpochDay() - toEpochDay();
+                case WEEKS:
+                    return (end.toEpochDay() - toEpochDay()) / 7;
+                case MONTHS:
+                    return monthsUntil(end);
+                case YEARS:
+                    return monthsUntil(end) / 12;
+                case DECADES:
+                    return monthsUntil(end) / 120;
+                case CENTURIES:
+                    return monthsUntil(end) / 1200;
+                case MILLENNIA:
+                    return monthsUntil(end) / 12000;
+                case ERAS:
+                    return end.getLong(ChronoField.ERA) - getLong(ChronoField.ERA);
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return unit.between(this, end);
+    }
+
+    private long monthsUntil(JalaliLocalDate end) {
+        long packed1 = getProlepticMonth() * 32L + day;
+        long packed2 = end.getProlepticMonth() * 32L + end.day;
+        return (packed2 - packed1) / 32;
+    }
+
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        JalaliLocalDate end = getChronology().date(endDateExclusive);
+        long totalMonths = end.getProlepticMonth() - getProlepticMonth();
+        int days = end.day - day;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.toEpochDay() - plusMonths(totalMonths).toEpochDay());
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period((int) (totalMonths / 12), (int) (totalMonths % 12), days);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoLocalDateTime<JalaliLocalDate> atTime(LocalTime localTime) {
+        return (ChronoLocalDateTime<JalaliLocalDate>) ChronoLocalDate.super.atTime(localTime);
+    }
+
+    @Override
+    public long toEpochDay() {
+        return JalaliUtil.toEpochDay(year, month, day);
+    }
+
+    /**
+     * @return the gregorian date of the same day
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(toEpochDay());
+    }
+
+    /**
+     * @return the date at the start of the day in the default time zone
+     */
+    public JalaliDate toJalaliDate() {
+        return new JalaliDate(year, month, day);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        JalaliLocalDate that = (JalaliLocalDate) o;
+        return year == that.year && month == that.month && day == that.day;
+    }
+
+    @Override
+    public int hashCode() {
+        return getChronology().getId().hashCode() ^ ((year & 0xFFFFF800) ^ ((year << 11) + (month << 6) + day));
+    }
+
+    @Override
+    public String toString() {
+        return getChronology().getId() + " " + getEra() + " " + getLong(ChronoField.YEAR_OF_ERA)
+                + (month < 10 ? "-0" : "-") + month + (day < 10 ? "-0" : "-") + day;
+    }
+
+    private Object readResolve() {
+        return of(year, month, day);
+    }
+}
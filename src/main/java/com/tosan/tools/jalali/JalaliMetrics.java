@@ -0,0 +1,260 @@
+package com.tosan.tools.jalali;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in metrics of the conversion hot paths, which are recorded once they are installed, e.g.
+ * <code>JalaliMetrics.install()</code>: the count, the total time and a histogram of the latencies of each
+ * {@link Operation}. Nothing is measured until the metrics are installed, so the cost of the disabled metrics is a
+ * read of a volatile field per operation.
+ * <p>
+ * The counters are striped {@link LongAdder}s, so the threads that convert at the same time do not contend. The
+ * histogram has a bucket per power of two of the nanoseconds, e.g. the bucket 10 counts the latencies from 512 to
+ * 1023 nanoseconds. The {@link Listener}s are notified of every operation on the converting thread, to bridge the
+ * metrics to another metrics system.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliMetrics {
+    /**
+     * The number of the buckets of the histogram: zero and a bucket per bit of a long.
+     */
+    public static final int BUCKETS = 65;
+
+    static volatile JalaliMetrics installed;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public JalaliMetrics() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+    }
+
+    /**
+     * Creates the metrics and installs them for {@link JalaliUtil} and {@link JalaliCalendar}.
+     *
+     * @return the installed metrics
+     */
+    public static JalaliMetrics install() {
+        JalaliMetrics metrics = new JalaliMetrics();
+        installed = metrics;
+        return metrics;
+    }
+
+    /**
+     * Removes the installed metrics, if any.
+     */
+    public static void uninstall() {
+        installed = null;
+    }
+
+    /**
+     * @return the installed metrics, or null if no metrics are installed
+     */
+    public static JalaliMetrics getInstalled() {
+        return installed;
+    }
+
+    /**
+     * @return the start of an operation for {@link #record(Operation, long)} if the metrics are installed, else 0
+     */
+    static long start(JalaliMetrics metrics) {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records an operation from its start, as returned by {@link System#nanoTime()}.
+     */
+    void record(Operation operation, long start) {
+        long nanos = Math.max(System.nanoTime() - start, 0);
+        recorders.get(operation).record(nanos);
+        for (Listener listener : listeners) {
+            listener.onOperation(operation, nanos);
+        }
+    }
+
+    public void addListener(Listener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("the listener must not be null.");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return the metrics of the operation up to now, which are not changed by the later operations
+     */
+    public Snapshot getSnapshot(Operation operation) {
+        return recorders.get(operation).snapshot();
+    }
+
+    /**
+     * Resets the counters of all the operations.
+     */
+    public void reset() {
+        for (Recorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("JalaliMetrics{");
+        for (Operation operation : Operation.values()) {
+            if (operation.ordinal() > 0) {
+                sb.append(", ");
+            }
+            sb.append(operation).append('=').append(getSnapshot(operation));
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * The measured operations.
+     */
+    public enum Operation {
+        /**
+         * {@link JalaliUtil#gregorianToJalali(java.util.Date)}
+         */
+        GREGORIAN_TO_JALALI,
+        /**
+         * {@link JalaliUtil#jalaliToGregorian(JalaliDate)}
+         */
+        JALALI_TO_GREGORIAN,
+        /**
+         * {@link JalaliUtil#parseJalaliDate(String, String)}, including the texts that are not valid
+         */
+        PARSE,
+        /**
+         * The computation of the time of {@link JalaliCalendar} from its fields, with the shift of the time zones
+         */
+        COMPUTE_TIME,
+        /**
+         * The computation of the fields of {@link JalaliCalendar} from its time, with the shift of the time zones
+         */
+        COMPUTE_FIELDS
+    }
+
+    /**
+     * The service provider interface to bridge the metrics to another metrics system. A listener is notified on the
+     * thread of the operation, so it must be fast and thread-safe, and must not throw.
+     */
+    public interface Listener {
+        /**
+         * @param operation the operation
+         * @param nanos     the latency of the operation in nanoseconds
+         */
+        void onOperation(Operation operation, long nanos);
+    }
+
+    /**
+     * The metrics of an operation at a point in time.
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final long totalNanos;
+        private final long[] buckets;
+
+        private Snapshot(long count, long totalNanos, long[] buckets) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.buckets = buckets;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * @param bucket the bucket of the latencies below 2<sup>bucket</sup> nanoseconds and not below half of it,
+         *               or of zero for the bucket 0
+         * @return the number of the operations in the bucket
+         */
+        public long getBucketCount(int bucket) {
+            return buckets[bucket];
+        }
+
+        /**
+         * @param percentile the percentile, e.g. 99.9
+         * @return the upper bound of the bucket of the percentile in nanoseconds, which is at most twice the latency
+         * of the percentile, or 0 if there is no operation
+         */
+        public long getPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("the percentile " + percentile + " is not between 0 and 100.");
+            }
+            long total = 0;
+            for (long bucketCount : buckets) {
+                total += bucketCount;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= rank && seen > 0) {
+                    return bucket == 0 ? 0 : bucket == 64 ? Long.MAX_VALUE : (1L << bucket) - 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + count + ", meanNanos=" + getMeanNanos() + ", p99Nanos=" + getPercentileNanos(99) + '}';
+        }
+    }
+
+    private static final class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        private Recorder() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            buckets[64 - Long.numberOfLeadingZeros(nanos)].increment();
+        }
+
+        private Snapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return new Snapshot(count.sum(), totalNanos.sum(), counts);
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+        }
+    }
+}
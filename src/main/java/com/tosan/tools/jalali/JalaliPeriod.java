@@ -0,0 +1,132 @@
+package com.tosan.tools.jalali;
+
+import java.io.Serializable;
+
+/**
+ * An immutable amount of time in jalali years, months and days, e.g. 1 year, 2 months and 3 days.
+ * The period between two dates is computed from the whole months of
+ * {@link JalaliUtil#monthsBetween(JalaliDate, JalaliDate, boolean)} and the whole days after them, so adding its
+ * months and then its days to the start by {@link JalaliCalendar#add(int, int)} gives the end.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliPeriod implements Serializable {
+    private static final long serialVersionUID = 4218640371526880432L;
+    private static final long MILLIS_PER_DAY = 86400000;
+
+    public static final JalaliPeriod ZERO = new JalaliPeriod(0, 0, 0);
+
+    private final int years;
+    private final int months;
+    private final int days;
+
+    private JalaliPeriod(int years, int months, int days) {
+        this.years = years;
+        this.months = months;
+        this.days = days;
+    }
+
+    public static JalaliPeriod of(int years, int months, int days) {
+        return (years | months | days) == 0 ? ZERO : new JalaliPeriod(years, months, days);
+    }
+
+    /**
+     * Computes the period like {@link #between(JalaliDate, JalaliDate, boolean)} without calculating the overflow.
+     */
+    public static JalaliPeriod between(JalaliDate start, JalaliDate end) {
+        return between(start, end, false);
+    }
+
+    /**
+     * Computes the period from the start to the end by their local dates and times, regardless of their time zones,
+     * e.g. 1 month and 1 day from 1403/06/31 to 1403/08/01, or 1 month with the overflow calculated.
+     *
+     * @param calcOverflow as {@link JalaliCalendar#setCalcOverflow(boolean)}
+     * @return the period, which is negative if the end is before the start
+     */
+    public static JalaliPeriod between(JalaliDate start, JalaliDate end, boolean calcOverflow) {
+        return between(start.getYear(), start.getMonth(), start.getDay(), JalaliUtil.timeOfDay(start),
+                JalaliUtil.localMillis(end), calcOverflow);
+    }
+
+    /**
+     * Computes the period from the start to the end without calculating the overflow.
+     */
+    public static JalaliPeriod between(JalaliDay start, JalaliDay end) {
+        return between(start.getYear(), start.getMonth(), start.getDay(), 0, end.toEpochDay() * MILLIS_PER_DAY,
+                false);
+    }
+
+    private static JalaliPeriod between(int year, int month, int day, long startTime, long endMillis,
+                                        boolean calcOverflow) {
+        long months = JalaliUtil.monthsBetween(year, month, day, startTime, endMillis, calcOverflow);
+        long startMillis = JalaliUtil.plusMonths(year, month, day, months, calcOverflow) * MILLIS_PER_DAY + startTime;
+        return of((int) (months / 12), (int) (months % 12), (int) ((endMillis - startMillis) / MILLIS_PER_DAY));
+    }
+
+    public int getYears() {
+        return years;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * @return the years and the months in months
+     */
+    public long toTotalMonths() {
+        return years * 12L + months;
+    }
+
+    public boolean isZero() {
+        return this == ZERO || (years | months | days) == 0;
+    }
+
+    public boolean isNegative() {
+        return years < 0 || months < 0 || days < 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        JalaliPeriod that = (JalaliPeriod) o;
+        return years == that.years && months == that.months && days == that.days;
+    }
+
+    @Override
+    public int hashCode() {
+        return years + Integer.rotateLeft(months, 8) + Integer.rotateLeft(days, 16);
+    }
+
+    /**
+     * @return the period in the ISO-8601 format, e.g. P1Y2M3D, or P0D for zero
+     */
+    @Override
+    public String toString() {
+        if (isZero()) {
+            return "P0D";
+        }
+        StringBuilder sb = new StringBuilder(16).append('P');
+        if (years != 0) {
+            sb.append(years).append('Y');
+        }
+        if (months != 0) {
+            sb.append(months).append('M');
+        }
+        if (days != 0) {
+            sb.append(days).append('D');
+        }
+        return sb.toString();
+    }
+}
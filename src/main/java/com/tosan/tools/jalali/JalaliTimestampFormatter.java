@@ -0,0 +1,132 @@
+package com.tosan.tools.jalali;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Formats instants as jalali timestamps of yyyy/MM/dd HH:mm:ss.SSS in a time zone, e.g. 1403/01/15 10:20:30.456,
+ * for stamping log lines at a high rate.
+ * <p>
+ * The timestamp of the last formatted second is cached with its yyyy/MM/dd HH:mm:ss prefix already rendered, keyed
+ * by the epoch second, so the instants of the same second only copy the prefix and write the milliseconds.
+ * The timestamps are written into a caller-supplied {@link StringBuilder} or byte array without allocating.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+public final class JalaliTimestampFormatter {
+    /**
+     * The length of a timestamp of the years from 1000 to 9999.
+     */
+    public static final int LENGTH = 23;
+
+    private final TimeZone timeZone;
+    private final ZoneOffsetResolver resolver;
+    private volatile Second cached;
+
+    /**
+     * Creates a formatter of the default time zone.
+     */
+    public JalaliTimestampFormatter() {
+        this(TimeZone.getDefault());
+    }
+
+    /**
+     * @param timeZone the time zone of the timestamps
+     */
+    public JalaliTimestampFormatter(TimeZone timeZone) {
+        this.timeZone = (TimeZone) timeZone.clone();
+        this.resolver = ZoneOffsetResolver.of(this.timeZone);
+        this.cached = new Second(0);
+    }
+
+    /**
+     * @param epochMillis milliseconds since 1970/01/01 00:00:00 UTC
+     * @param sb          the destination
+     * @return the destination
+     */
+    public StringBuilder format(long epochMillis, StringBuilder sb) {
+        sb.append(second(epochMillis).chars);
+        int millisecond = (int) Math.floorMod(epochMillis, 1000L);
+        return sb.append((char) ('0' + millisecond / 100)).append((char) ('0' + millisecond / 10 % 10))
+                .append((char) ('0' + millisecond % 10));
+    }
+
+    /**
+     * Writes the timestamp as ascii bytes.
+     *
+     * @param epochMillis milliseconds since 1970/01/01 00:00:00 UTC
+     * @param bytes       the destination, which must have {@link #LENGTH} bytes from the offset
+     * @param offset      the index of the first byte to write
+     * @return the index after the last written byte
+     */
+    public int format(long epochMillis, byte[] bytes, int offset) {
+        byte[] prefix = second(epochMillis).bytes;
+        System.arraycopy(prefix, 0, bytes, offset, prefix.length);
+        return DigitUtil.writePadded(bytes, offset + prefix.length, (int) Math.floorMod(epochMillis, 1000L), 3);
+    }
+
+    public String format(long epochMillis) {
+        return format(epochMillis, new StringBuilder(LENGTH)).toString();
+    }
+
+    public String format(Date date) {
+        return format(date.getTime());
+    }
+
+    /**
+     * @return a copy of the time zone
+     */
+    public TimeZone getTimeZone() {
+        return (TimeZone) timeZone.clone();
+    }
+
+    private Second second(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        Second second = cached;
+        if (second.epochSecond != epochSecond) {
+            second = new Second(epochSecond);
+            cached = second;
+        }
+        return second;
+    }
+
+    /**
+     * The immutable rendered prefix of a second, up to the dot before the milliseconds.
+     */
+    private final class Second {
+        private final long epochSecond;
+        private final byte[] bytes;
+        private final char[] chars;
+
+        private Second(long epochSecond) {
+            long millis = epochSecond * 1000;
+            long local = millis + resolver.getOffset(millis);
+            long epochDay = Math.floorDiv(local, 86400000L);
+            int jalali = JalaliDayCache.fromEpochDay(epochDay);
+            int secondOfDay = (int) (local - epochDay * 86400000L) / 1000;
+            byte[] buffer = new byte[32];
+            int length = DigitUtil.writePadded(buffer, 0, jalali / 10000, 4);
+            buffer[length++] = '/';
+            length = DigitUtil.writePadded(buffer, length, jalali / 100 % 100, 2);
+            buffer[length++] = '/';
+            length = DigitUtil.writePadded(buffer, length, jalali % 100, 2);
+            buffer[length++] = ' ';
+            length = DigitUtil.writePadded(buffer, length, secondOfDay / 3600, 2);
+            buffer[length++] = ':';
+            length = DigitUtil.writePadded(buffer, length, secondOfDay / 60 % 60, 2);
+            buffer[length++] = ':';
+            length = DigitUtil.writePadded(buffer, length, secondOfDay % 60, 2);
+            buffer[length++] = '.';
+            this.epochSecond = epochSecond;
+            this.bytes = new byte[length];
+            this.chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer[i];
+                chars[i] = (char) buffer[i];
+            }
+        }
+    }
+}
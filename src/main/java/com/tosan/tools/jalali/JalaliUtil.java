@@ -3,63 +3,419 @@ package com.tosan.tools.jalali;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author mosidev
  * @since 9/30/2023
  */
 public class JalaliUtil {
+    /**
+     * Epoch-day of 979/01/01, the first day of the 33-year cycles used by the conversion arithmetic.
+     */
+    private static final long JALALI_EPOCH_DAY = -135061;
+    private static final int DAYS_PER_CYCLE = 12053;
+    private static final int DAYS_PER_FOUR_YEARS = 1461;
+    private static final long DAYS_0000_TO_1970 = 719528;
+    private static final long DAYS_PER_400_YEARS = 146097;
+    private static final long MILLIS_PER_DAY = 86400000;
 
-    private static final Set<Integer> KHAYYAM_TABLE = new HashSet<>(Arrays.asList(
-            5, 9, 13, 17, 21, 25, 29, 34, 38, 42, 46, 50, 54, 58, 62, 67, 71, 75,
-            79, 83, 87, 91, 95, 100, 104, 108, 112, 116, 120, 124));
+    /**
+     * The supported range of {@link JalaliCalendar#getMinimum(int)} and {@link JalaliCalendar#getMaximum(int)}
+     * for the year field, which is covered by the Nowruz table.
+     */
+    static final int MIN_YEAR = 979;
+    static final int MAX_YEAR = 9979;
 
-    private static final Set<Integer> EXCEPTION_LEAP_YEARS = new HashSet<>(Arrays.asList(
-            1403, 1436, 1469));
-    private static final Set<Integer> EXCEPTION_COMMON_YEARS = new HashSet<>(Arrays.asList(
-            1404, 1437, 1470));
+    /**
+     * The epoch-day of 1 Farvardin (Nowruz) of the years from MIN_YEAR to MAX_YEAR + 1, built once by
+     * {@link #daysBeforeYear(long)}, so that the conversions and the leap years are read from the same table.
+     */
+    private static final int[] NOWRUZ = new int[MAX_YEAR - MIN_YEAR + 2];
+
+    static {
+        for (int i = 0; i < NOWRUZ.length; i++) {
+            NOWRUZ[i] = (int) (JALALI_EPOCH_DAY + daysBeforeYear(i));
+        }
+    }
+
+    /**
+     * The single leap rule of the library: the 33-year cycles from 979 with 8 leap years each, the years 0, 4, ...,
+     * 28 of a cycle, which gives the leap years of the official calendar, e.g. 1399 and 1403, over the practical
+     * range.
+     *
+     * @param years the number of years after 979, may be negative
+     * @return the number of days from 979/01/01 to the first day of the year
+     */
+    private static long daysBeforeYear(long years) {
+        return 365 * years + Math.floorDiv(years, 33) * 8 + (Math.floorMod(years, 33) + 3) / 4;
+    }
 
     public static boolean isLeapYear(int year) {
-        if (EXCEPTION_LEAP_YEARS.contains(year)) {
-            return true;
+        int index = year - MIN_YEAR;
+        if (index >= 0 && year <= MAX_YEAR) {
+            return NOWRUZ[index + 1] - NOWRUZ[index] == 366;
         }
-        if (EXCEPTION_COMMON_YEARS.contains(year)) {
-            return false;
+        return daysBeforeYear(index + 1L) - daysBeforeYear(index) == 366;
+    }
+
+    /**
+     * Converts a jalali date to the number of days since 1970/01/01 of the gregorian calendar.
+     * The month and the day are lenient, e.g. 1402/13/01 and 1402/12/30 are both handled as 1403/01/01.
+     * The first day of a supported year is looked up in the Nowruz table, and of the other years is computed by the
+     * same leap rule. This method does not allocate any object.
+     *
+     * @param year  jalali year
+     * @param month jalali month, started from one
+     * @param day   jalali day of month
+     * @return the epoch-day
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        long months = (long) year * 12 + month - 1;
+        long y = Math.floorDiv(months, 12) - MIN_YEAR;
+        int m = (int) Math.floorMod(months, 12);
+        long nowruz = y >= 0 && y < NOWRUZ.length ? NOWRUZ[(int) y] : JALALI_EPOCH_DAY + daysBeforeYear(y);
+        return nowruz + daysBeforeMonth(m + 1) + day - 1;
+    }
+
+    /**
+     * Converts the number of days since 1970/01/01 of the gregorian calendar to a jalali date.
+     * The result is packed in an int as yyyymmdd, e.g. 14030115 for 1403/01/15, so that it can be
+     * converted without allocating any object. The year of a supported day is found in the Nowruz table from the
+     * estimate of the average length of the years.
+     *
+     * @param epochDay epoch-day
+     * @return the packed jalali date as yyyymmdd
+     */
+    public static int fromEpochDay(long epochDay) {
+        long year;
+        int days;
+        if (epochDay >= NOWRUZ[0] && epochDay < NOWRUZ[NOWRUZ.length - 1]) {
+            int index = (int) ((epochDay - NOWRUZ[0]) * 33 / DAYS_PER_CYCLE);
+            while (NOWRUZ[index] > epochDay) {
+                index--;
+            }
+            while (NOWRUZ[index + 1] <= epochDay) {
+                index++;
+            }
+            year = MIN_YEAR + index;
+            days = (int) (epochDay - NOWRUZ[index]);
+        } else {
+            long jDays = epochDay - JALALI_EPOCH_DAY;
+            year = MIN_YEAR + 33 * Math.floorDiv(jDays, DAYS_PER_CYCLE);
+            days = (int) Math.floorMod(jDays, DAYS_PER_CYCLE);
+            year += 4 * (days / DAYS_PER_FOUR_YEARS);
+            days %= DAYS_PER_FOUR_YEARS;
+            if (days >= 366) {
+                year += (days - 1) / 365;
+                days = (days - 1) % 365;
+            }
+        }
+        int month;
+        if (days < 186) {
+            month = days / 31 + 1;
+            days = days % 31;
+        } else {
+            days -= 186;
+            month = days / 30 + 7;
+            days = days % 30;
         }
+        return (int) year * 10000 + month * 100 + days + 1;
+    }
 
-        int dd;
-        if (year >= 474) {
-            dd = (year - 474) % 128;
-            if (dd == 0)
-                return true;
+    /**
+     * @return the number of days of the jalali year before the first day of the month
+     */
+    static int daysBeforeMonth(int month) {
+        return month <= 7 ? 31 * (month - 1) : 186 + 30 * (month - 7);
+    }
+
+    /**
+     * Converts a gregorian date to the number of days since 1970/01/01.
+     *
+     * @param year  gregorian year
+     * @param month gregorian month, started from one
+     * @param day   gregorian day of month
+     * @return the epoch-day
+     */
+    static long gregorianToEpochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
         } else {
-            dd = (year >= 342) ? (year - 342) : (128 - (374 - year) % 128);
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isGregorianLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts the number of days since 1970/01/01 to a gregorian date packed as yyyymmdd.
+     *
+     * @param epochDay epoch-day
+     * @return the packed gregorian date as yyyymmdd
+     */
+    static int gregorianFromEpochDay(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_400_YEARS - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_400_YEARS;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_400_YEARS;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
         }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return (int) yearEst * 10000 + month * 100 + day;
+    }
 
-        return KHAYYAM_TABLE.contains(dd);
+    private static boolean isGregorianLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Counts the whole days from the start to the end by their local dates and times, regardless of their time
+     * zones, e.g. 1 day from 1403/01/15 10:00 to 1403/01/16 12:00 and 0 days to 1403/01/16 08:00.
+     * This method does not allocate any object.
+     *
+     * @return the number of whole days, which is negative if the end is before the start
+     */
+    public static long daysBetween(JalaliDate start, JalaliDate end) {
+        return (localMillis(end) - localMillis(start)) / MILLIS_PER_DAY;
+    }
+
+    /**
+     * Counts the whole months from the start to the end like {@link #monthsBetween(JalaliDate, JalaliDate, boolean)}
+     * without calculating the overflow, which is the default of {@link JalaliCalendar}.
+     */
+    public static long monthsBetween(JalaliDate start, JalaliDate end) {
+        return monthsBetween(start, end, false);
+    }
+
+    /**
+     * Counts the whole months from the start to the end by their local dates and times, regardless of their time
+     * zones. It is the greatest number of months that {@link JalaliCalendar#add(int, int)} can add to the start
+     * without passing the end, so the month-end follows the same rules, e.g. 1 month from 1403/06/31 to 1403/07/30,
+     * or 0 months with the overflow calculated since 1403/06/31 plus one month is 1403/08/01 then.
+     * This method does not allocate any object.
+     *
+     * @param calcOverflow as {@link JalaliCalendar#setCalcOverflow(boolean)}
+     * @return the number of whole months, which is negative if the end is before the start
+     */
+    public static long monthsBetween(JalaliDate start, JalaliDate end, boolean calcOverflow) {
+        return monthsBetween(start.getYear(), start.getMonth(), start.getDay(), timeOfDay(start), localMillis(end),
+                calcOverflow);
+    }
+
+    /**
+     * Counts the whole years from the start to the end like {@link #yearsBetween(JalaliDate, JalaliDate, boolean)}
+     * without calculating the overflow.
+     */
+    public static long yearsBetween(JalaliDate start, JalaliDate end) {
+        return yearsBetween(start, end, false);
+    }
+
+    /**
+     * Counts the whole years from the start to the end, which are the whole months of
+     * {@link #monthsBetween(JalaliDate, JalaliDate, boolean)} divided by 12, e.g. 1 year from 1403/12/30 to
+     * 1404/12/29, or 0 years with the overflow calculated since 1404 is not a leap year.
+     * This method does not allocate any object.
+     *
+     * @param calcOverflow as {@link JalaliCalendar#setCalcOverflow(boolean)}
+     * @return the number of whole years, which is negative if the end is before the start
+     */
+    public static long yearsBetween(JalaliDate start, JalaliDate end, boolean calcOverflow) {
+        return monthsBetween(start, end, calcOverflow) / 12;
+    }
+
+    /**
+     * @param startTime the milliseconds of the day of the start
+     * @param endMillis the local milliseconds of the end since 1970/01/01
+     */
+    static long monthsBetween(int year, int month, int day, long startTime, long endMillis, boolean calcOverflow) {
+        long startMillis = toEpochDay(year, month, day) * MILLIS_PER_DAY + startTime;
+        int end = fromEpochDay(Math.floorDiv(endMillis, MILLIS_PER_DAY));
+        long months = (end / 10000 * 12L + end / 100 % 100) - (year * 12L + month);
+        if (endMillis >= startMillis) {
+            months = Math.max(months, 0);
+            while (months > 0 && plusMonths(year, month, day, months, calcOverflow) * MILLIS_PER_DAY + startTime
+                    > endMillis) {
+                months--;
+            }
+        } else {
+            months = Math.min(months, 0);
+            while (months < 0 && plusMonths(year, month, day, months, calcOverflow) * MILLIS_PER_DAY + startTime
+                    < endMillis) {
+                months++;
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Adds the months to a date like {@link JalaliCalendar#add(int, int)}: the last day of a month is kept the last
+     * day when subtracting, and a day after the end of the month is clamped to the last day, unless the overflow is
+     * calculated to the next month when adding.
+     *
+     * @return the epoch-day of the result
+     */
+    static long plusMonths(int year, int month, int day, long months, boolean calcOverflow) {
+        long start = year * 12L + month - 1;
+        boolean lastDay = months < 0
+                && day == lengthOfMonth((int) Math.floorDiv(start, 12L), (int) Math.floorMod(start, 12L) + 1);
+        int newYear = (int) Math.floorDiv(start + months, 12L);
+        int newMonth = (int) Math.floorMod(start + months, 12L) + 1;
+        int length = lengthOfMonth(newYear, newMonth);
+        if (lastDay || (day > length && (months < 0 || !calcOverflow))) {
+            day = length;
+        }
+        return toEpochDay(newYear, newMonth, day);
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        return month <= 6 ? 31 : month < 12 ? 30 : isLeapYear(year) ? 30 : 29;
+    }
+
+    /**
+     * @return the milliseconds of the day of the local time of the date, which may be out of a day for lenient
+     * fields
+     */
+    static long timeOfDay(JalaliDate jalaliDate) {
+        return jalaliDate.getHour() * 3600000L + jalaliDate.getMinute() * 60000L + jalaliDate.getSecond() * 1000L
+                + jalaliDate.getMillisecond();
+    }
+
+    /**
+     * @return the local milliseconds of the date since 1970/01/01
+     */
+    static long localMillis(JalaliDate jalaliDate) {
+        return toEpochDay(jalaliDate.getYear(), jalaliDate.getMonth(), jalaliDate.getDay()) * MILLIS_PER_DAY
+                + timeOfDay(jalaliDate);
+    }
+
+    /**
+     * Converts the instants of a column of epoch milliseconds to jalali dates of the given time zone.
+     * The dates are packed as yyyymmdd, like {@link #fromEpochDay(long)}.
+     * The large arrays are converted in parallel by the common {@link ForkJoinPool}.
+     *
+     * @param millis    milliseconds since 1970/01/01 00:00:00 UTC
+     * @param zone      the time zone of the jalali dates
+     * @param packedOut the destination of the packed jalali dates, with the same length as millis
+     */
+    public static void toJalali(long[] millis, TimeZone zone, int[] packedOut) {
+        toJalali(millis, ZoneOffsetResolver.of(zone), packedOut);
+    }
+
+    /**
+     * Converts a column of jalali dates packed as yyyymmdd to the epoch milliseconds of the start of the days
+     * in the given time zone. It is the reverse of {@link #toJalali(long[], TimeZone, int[])}.
+     * The large arrays are converted in parallel by the common {@link ForkJoinPool}.
+     *
+     * @param packed    the packed jalali dates
+     * @param zone      the time zone of the jalali dates
+     * @param millisOut the destination of the milliseconds since 1970/01/01 00:00:00 UTC, with the same length as
+     *                  packed
+     */
+    public static void toEpochMillis(int[] packed, TimeZone zone, long[] millisOut) {
+        toEpochMillis(packed, ZoneOffsetResolver.of(zone), millisOut);
+    }
+
+    static void toJalali(long[] millis, ZoneOffsetResolver resolver, int[] packedOut) {
+        if (millis.length != packedOut.length) {
+            throw new IllegalArgumentException("the length of the arrays are not the same.");
+        }
+        if (millis.length <= BulkConversionTask.THRESHOLD) {
+            toJalali(millis, resolver, packedOut, 0, millis.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new BulkConversionTask(millis, packedOut, resolver, true, 0,
+                    millis.length));
+        }
+    }
+
+    static void toEpochMillis(int[] packed, ZoneOffsetResolver resolver, long[] millisOut) {
+        if (packed.length != millisOut.length) {
+            throw new IllegalArgumentException("the length of the arrays are not the same.");
+        }
+        if (packed.length <= BulkConversionTask.THRESHOLD) {
+            toEpochMillis(packed, resolver, millisOut, 0, packed.length);
+        } else {
+            ForkJoinPool.commonPool().invoke(new BulkConversionTask(millisOut, packed, resolver, false, 0,
+                    packed.length));
+        }
+    }
+
+    static void toJalali(long[] millis, ZoneOffsetResolver resolver, int[] packedOut, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long local = millis[i] + resolver.getOffset(millis[i]);
+            packedOut[i] = fromEpochDay(Math.floorDiv(local, MILLIS_PER_DAY));
+        }
+    }
+
+    static void toEpochMillis(int[] packed, ZoneOffsetResolver resolver, long[] millisOut, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int p = packed[i];
+            long local = toEpochDay(p / 10000, p / 100 % 100, p % 100) * MILLIS_PER_DAY;
+            millisOut[i] = local - resolver.getOffsetForLocal(local, true);
+        }
     }
 
     public static Date jalaliToGregorian(JalaliDate jalaliDate) {
+        JalaliMetrics metrics = JalaliMetrics.installed;
+        long start = JalaliMetrics.start(metrics);
+        Date gregorian = null;
         if (jalaliDate.isValid()) {
             JalaliCalendar jalaliCalendar = new JalaliCalendar(jalaliDate);
-            return jalaliCalendar.getTime();
-        } else {
-            return null;
+            gregorian = jalaliCalendar.getTime();
         }
+        if (metrics != null) {
+            metrics.record(JalaliMetrics.Operation.JALALI_TO_GREGORIAN, start);
+        }
+        return gregorian;
     }
 
+    /**
+     * Converts the date to a jalali date of the default timezone, like {@link JalaliCalendar#JalaliCalendar(Date)}.
+     * The installed {@link JalaliDayCache}, if any, is consulted for the day.
+     *
+     * @param gregorian gregorian
+     * @return the jalali date
+     */
     public static JalaliDate gregorianToJalali(Date gregorian) {
-        JalaliCalendar jalaliCalendar = new JalaliCalendar(gregorian);
-        return new JalaliDate(
-                jalaliCalendar.get(Calendar.YEAR),
-                jalaliCalendar.get(Calendar.MONTH) + 1,
-                jalaliCalendar.get(Calendar.DAY_OF_MONTH),
-                jalaliCalendar.get(Calendar.HOUR_OF_DAY),
-                jalaliCalendar.get(Calendar.MINUTE),
-                jalaliCalendar.get(Calendar.SECOND));
+        JalaliMetrics metrics = JalaliMetrics.installed;
+        long start = JalaliMetrics.start(metrics);
+        long time = gregorian.getTime();
+        long local = time + ZoneOffsetResolver.of(TimeZone.getDefault()).getOffset(time);
+        long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        int jalali = JalaliDayCache.fromEpochDay(epochDay);
+        int timeOfDay = (int) (local - epochDay * MILLIS_PER_DAY);
+        JalaliDate jalaliDate = new JalaliDate(jalali / 10000, jalali / 100 % 100, jalali % 100,
+                timeOfDay / 3600000, timeOfDay / 60000 % 60, timeOfDay / 1000 % 60);
+        if (metrics != null) {
+            metrics.record(JalaliMetrics.Operation.GREGORIAN_TO_JALALI, start);
+        }
+        return jalaliDate;
     }
 
     public static JalaliDate parseJalaliDate(String dateText, String dateFormat) {
+        JalaliMetrics metrics = JalaliMetrics.installed;
+        long start = JalaliMetrics.start(metrics);
         SimpleDateFormat format = new SimpleDateFormat(dateFormat);
         try {
             JalaliCalendar jalaliCalendar = new JalaliCalendar();
@@ -74,6 +430,10 @@ public class JalaliUtil {
                     .get(Calendar.SECOND));
         } catch (ParseException e) {
             throw new IllegalArgumentException("the date text " + dateText + " is not valid.");
+        } finally {
+            if (metrics != null) {
+                metrics.record(JalaliMetrics.Operation.PARSE, start);
+            }
         }
     }
 }
@@ -0,0 +1,153 @@
+package com.tosan.tools.jalali;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the offsets of a {@link TimeZone} from its offset transitions, which are found once from the
+ * {@link ZoneRules} of the zone and searched with a binary search.
+ * The resolvers are cached per zone ID; a zone with custom rules, e.g. a {@link java.util.SimpleTimeZone},
+ * is resolved by the zone itself.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mosidev
+ * @since 10/17/2026
+ */
+final class ZoneOffsetResolver {
+    private static final long MILLIS_PER_DAY = 86400000;
+    /**
+     * The instants from 1900/01/01 UTC to 2037/01/01 UTC are resolved from the transitions, the other instants
+     * are resolved by the zone itself.
+     */
+    private static final long TABLE_START = -2208988800000L;
+    private static final long TABLE_END = 2114380800000L;
+    private static final ConcurrentMap<String, ZoneOffsetResolver> RESOLVERS = new ConcurrentHashMap<>();
+
+    private final TimeZone zone;
+    /**
+     * The rules of the zone, or null if the zone has custom rules.
+     */
+    private final ZoneRules rules;
+    private final long[] transitions;
+    private final int[] offsets;
+    private final int[] dstOffsets;
+    private final long tableStart;
+    private final long tableEnd;
+
+    private ZoneOffsetResolver(TimeZone zone, ZoneRules rules, long[] transitions, int[] offsets, int[] dstOffsets,
+                               long tableStart, long tableEnd) {
+        this.zone = zone;
+        this.rules = rules;
+        this.transitions = transitions;
+        this.offsets = offsets;
+        this.dstOffsets = dstOffsets;
+        this.tableStart = tableStart;
+        this.tableEnd = tableEnd;
+    }
+
+    static ZoneOffsetResolver of(TimeZone zone) {
+        ZoneOffsetResolver resolver = RESOLVERS.get(zone.getID());
+        if (resolver == null) {
+            resolver = RESOLVERS.computeIfAbsent(zone.getID(), id -> create(zone));
+        }
+        if (resolver.zone != zone && !resolver.zone.hasSameRules(zone)) {
+            return new ZoneOffsetResolver((TimeZone) zone.clone(), null, null, null, null, Long.MIN_VALUE,
+                    Long.MIN_VALUE);
+        }
+        return resolver;
+    }
+
+    private static ZoneOffsetResolver create(TimeZone zone) {
+        TimeZone copy = (TimeZone) zone.clone();
+        ZoneRules rules;
+        try {
+            if (!TimeZone.getTimeZone(zone.getID()).hasSameRules(zone)) {
+                return new ZoneOffsetResolver(copy, null, null, null, null, Long.MIN_VALUE, Long.MIN_VALUE);
+            }
+            rules = ZoneId.of(zone.getID(), ZoneId.SHORT_IDS).getRules();
+        } catch (RuntimeException e) {
+            return new ZoneOffsetResolver(copy, null, null, null, null, Long.MIN_VALUE, Long.MIN_VALUE);
+        }
+        List<Long> list = new ArrayList<>();
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(TABLE_START));
+        while (transition != null && transition.toEpochSecond() * 1000 < TABLE_END) {
+            list.add(transition.toEpochSecond() * 1000);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        long[] transitions = new long[list.size()];
+        int[] offsets = new int[list.size() + 1];
+        int[] dstOffsets = new int[list.size() + 1];
+        offsets[0] = copy.getOffset(TABLE_START);
+        dstOffsets[0] = getDstOffset(rules, TABLE_START);
+        for (int i = 0; i < transitions.length; i++) {
+            transitions[i] = list.get(i);
+            offsets[i + 1] = copy.getOffset(transitions[i]);
+            dstOffsets[i + 1] = getDstOffset(rules, transitions[i]);
+        }
+        return new ZoneOffsetResolver(copy, rules, transitions, offsets, dstOffsets, TABLE_START, TABLE_END);
+    }
+
+    private static int getDstOffset(ZoneRules rules, long utcMillis) {
+        return (int) rules.getDaylightSavings(Instant.ofEpochMilli(utcMillis)).toMillis();
+    }
+
+    /**
+     * @param utcMillis milliseconds since 1970/01/01 00:00:00 UTC
+     * @return the offset from UTC in milliseconds, like {@link TimeZone#getOffset(long)}
+     */
+    int getOffset(long utcMillis) {
+        if (utcMillis < tableStart || utcMillis >= tableEnd) {
+            return zone.getOffset(utcMillis);
+        }
+        return offsets[indexOf(utcMillis)];
+    }
+
+    /**
+     * @param utcMillis milliseconds since 1970/01/01 00:00:00 UTC
+     * @return the daylight saving part of the offset in milliseconds, like {@link java.util.Calendar#DST_OFFSET};
+     * the raw offset is the rest of {@link #getOffset(long)}
+     */
+    int getDstOffset(long utcMillis) {
+        if (utcMillis < tableStart || utcMillis >= tableEnd) {
+            return rules == null ? zone.getOffset(utcMillis) - zone.getRawOffset() : getDstOffset(rules, utcMillis);
+        }
+        return dstOffsets[indexOf(utcMillis)];
+    }
+
+    private int indexOf(long utcMillis) {
+        int index = Arrays.binarySearch(transitions, utcMillis);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Returns the offset of a local time, which is the epoch milliseconds of the same wall-clock time in UTC.
+     * A local time in a gap is shifted forward by the length of the gap, and a local time in an overlap gets the
+     * earlier offset, like {@link java.time.ZonedDateTime}, or the later one, like {@link java.util.GregorianCalendar}.
+     *
+     * @param localMillis   local time
+     * @param earlierOffset whether the earlier offset is used in an overlap
+     * @return the offset from UTC in milliseconds
+     */
+    int getOffsetForLocal(long localMillis, boolean earlierOffset) {
+        int before = getOffset(localMillis - MILLIS_PER_DAY);
+        int after = getOffset(localMillis + MILLIS_PER_DAY);
+        if (before == after) {
+            return before;
+        }
+        boolean validBefore = getOffset(localMillis - before) == before;
+        boolean validAfter = getOffset(localMillis - after) == after;
+        if (validBefore && validAfter) {
+            return earlierOffset ? before : after;
+        }
+        return validAfter ? after : before;
+    }
+}
@@ -0,0 +1,75 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliBusinessCalendarTest {
+    private static final List<JalaliDay> HOLIDAYS = Arrays.asList(JalaliDay.of(1403, 1, 1), JalaliDay.of(1403, 1, 2),
+            JalaliDay.of(1403, 1, 3), JalaliDay.of(1403, 1, 4), JalaliDay.of(1403, 1, 12), JalaliDay.of(1403, 1, 13));
+
+    @Test
+    public void businessDays() {
+        JalaliBusinessCalendar calendar = new JalaliBusinessCalendar(1402, 1404, HOLIDAYS);
+        // 1403/01/09 is Thursday
+        assertTrue(calendar.isBusinessDay(JalaliDay.of(1403, 1, 9)));
+        assertFalse(calendar.isBusinessDay(JalaliDay.of(1403, 1, 10)));
+        assertTrue(calendar.isBusinessDay(JalaliDay.of(1403, 1, 11)));
+        assertFalse(calendar.isBusinessDay(JalaliDay.of(1403, 1, 12)));
+        assertFalse(calendar.isBusinessDay(JalaliDay.of(1403, 1, 1)));
+
+        assertEquals(JalaliDay.of(1403, 1, 11), calendar.addBusinessDays(JalaliDay.of(1403, 1, 9), 1));
+        assertEquals(JalaliDay.of(1403, 1, 14), calendar.addBusinessDays(JalaliDay.of(1403, 1, 9), 2));
+        assertEquals(JalaliDay.of(1403, 1, 11), calendar.addBusinessDays(JalaliDay.of(1403, 1, 14), -1));
+        assertEquals(JalaliDay.of(1403, 1, 11), calendar.addBusinessDays(JalaliDay.of(1403, 1, 12), -1));
+        assertEquals(JalaliDay.of(1403, 1, 12), calendar.addBusinessDays(JalaliDay.of(1403, 1, 12), 0));
+        assertEquals(JalaliDay.of(1402, 12, 29), calendar.addBusinessDays(JalaliDay.of(1403, 1, 5), -1));
+
+        assertEquals(2, calendar.businessDaysBetween(JalaliDay.of(1403, 1, 9), JalaliDay.of(1403, 1, 14)));
+        assertEquals(-2, calendar.businessDaysBetween(JalaliDay.of(1403, 1, 14), JalaliDay.of(1403, 1, 9)));
+        assertEquals(calendar.businessDaysBetween(JalaliDay.of(1402, 1, 1), JalaliDay.of(1405, 1, 1)),
+                calendar.businessDaysBetween(JalaliDay.of(1402, 1, 1), JalaliDay.of(1403, 1, 1))
+                        + calendar.businessDaysBetween(JalaliDay.of(1403, 1, 1), JalaliDay.of(1405, 1, 1)));
+    }
+
+    @Test
+    public void matchesDayByDay() {
+        JalaliBusinessCalendar calendar = new JalaliBusinessCalendar(1402, 1404, HOLIDAYS,
+                EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY));
+        JalaliDay day = JalaliDay.of(1402, 12, 1);
+        for (int i = 0; i < 60; i++) {
+            DayOfWeek dayOfWeek = day.toLocalDate().toLocalDate().getDayOfWeek();
+            boolean business = dayOfWeek != DayOfWeek.THURSDAY && dayOfWeek != DayOfWeek.FRIDAY;
+            assertEquals(business && !HOLIDAYS.contains(day), calendar.isBusinessDay(day), day.toString());
+            JalaliDay next = day.plusDays(1);
+            while (!calendar.isBusinessDay(next)) {
+                next = next.plusDays(1);
+            }
+            assertEquals(next, calendar.addBusinessDays(day, 1));
+            day = day.plusDays(1);
+        }
+    }
+
+    @Test
+    public void setHolidays() {
+        JalaliBusinessCalendar calendar = new JalaliBusinessCalendar(1403, 1403, HOLIDAYS);
+        assertFalse(calendar.isBusinessDay(JalaliDay.of(1403, 1, 1)));
+        calendar.setHolidays(Collections.emptyList());
+        assertTrue(calendar.isBusinessDay(JalaliDay.of(1403, 1, 1)));
+    }
+
+    @Test
+    public void outOfYears() {
+        JalaliBusinessCalendar calendar = new JalaliBusinessCalendar(1403, 1403, HOLIDAYS);
+        assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(JalaliDay.of(1404, 1, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.addBusinessDays(JalaliDay.of(1403, 12, 28), 5));
+        assertThrows(IllegalArgumentException.class, () -> calendar.addBusinessDays(JalaliDay.of(1403, 1, 5), -1));
+        // 1403/12/30 is Thursday
+        assertEquals(1, calendar.businessDaysBetween(JalaliDay.of(1403, 12, 30), JalaliDay.of(1404, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new JalaliBusinessCalendar(1404, 1403, HOLIDAYS));
+    }
+}
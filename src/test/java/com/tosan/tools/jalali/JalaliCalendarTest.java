@@ -2,8 +2,12 @@ package com.tosan.tools.jalali;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -142,6 +146,49 @@ public class JalaliCalendarTest {
         assertEquals(1, jalaliCalendar.get(Calendar.AM_PM));
     }
 
+    @Test
+    public void addLargeAmounts() {
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 1, 15, 10, 20, 30, 0));
+        jalaliCalendar.add(Calendar.DAY_OF_MONTH, 100000);
+        long epochDay = JalaliUtil.toEpochDay(1403, 1, 15) + 100000;
+        assertEquals(JalaliUtil.fromEpochDay(epochDay), jalaliCalendar.get(Calendar.YEAR) * 10000
+                + (jalaliCalendar.get(Calendar.MONTH) + 1) * 100 + jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+        jalaliCalendar.add(Calendar.DAY_OF_MONTH, -100000);
+        assertEquals(new JalaliDate(1403, 1, 15, 10, 20, 30), jalaliCalendar.getJalaliDate());
+
+        jalaliCalendar.add(Calendar.WEEK_OF_YEAR, 2);
+        assertEquals(new JalaliDate(1403, 1, 29, 10, 20, 30), jalaliCalendar.getJalaliDate());
+        jalaliCalendar.add(Calendar.MONTH, 1200);
+        assertEquals(new JalaliDate(1503, 1, 29, 10, 20, 30), jalaliCalendar.getJalaliDate());
+        jalaliCalendar.add(Calendar.MONTH, -1200);
+
+        jalaliCalendar.add(Calendar.MINUTE, 1440 * 3 + 40);
+        assertEquals(new JalaliDate(1403, 2, 1, 11, 0, 30), jalaliCalendar.getJalaliDate());
+        jalaliCalendar.add(Calendar.SECOND, Integer.MAX_VALUE);
+        jalaliCalendar.add(Calendar.SECOND, Integer.MAX_VALUE);
+        jalaliCalendar.add(Calendar.SECOND, -Integer.MAX_VALUE);
+        jalaliCalendar.add(Calendar.SECOND, -Integer.MAX_VALUE);
+        assertEquals(new JalaliDate(1403, 2, 1, 11, 0, 30), jalaliCalendar.getJalaliDate());
+        jalaliCalendar.add(Calendar.MILLISECOND, 1500);
+        assertEquals(31, jalaliCalendar.get(Calendar.SECOND));
+        assertEquals(500, jalaliCalendar.get(Calendar.MILLISECOND));
+    }
+
+    @Test
+    public void addMonthsKeepsMonthEnd() {
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 6, 31, 10, 0, 0));
+        jalaliCalendar.add(Calendar.MONTH, 1);
+        assertEquals(30, jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+        jalaliCalendar.add(Calendar.MONTH, -1);
+        assertEquals(31, jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+
+        jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 6, 31, 10, 0, 0));
+        jalaliCalendar.setCalcOverflow(true);
+        jalaliCalendar.add(Calendar.MONTH, 1);
+        assertEquals(7, jalaliCalendar.get(Calendar.MONTH));
+        assertEquals(1, jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+    }
+
     @Test
     public void roll() {
         JalaliDate jalaliDate = new JalaliDate(1388, 8, 11, 23, 35, 45, 0);
@@ -281,4 +328,113 @@ public class JalaliCalendarTest {
         assertEquals(50, jalaliCalendar.get(JalaliCalendar.MINUTE));
         assertEquals(3, jalaliCalendar.get(JalaliCalendar.SECOND));
     }
+
+    @Test
+    public void jalaliDateToString() throws IOException {
+        JalaliDate jalaliDate = new JalaliDate(1403, 1, 5, 8, 4, 9);
+        assertEquals("1403/01/05 08:04:09", jalaliDate.toString());
+        assertEquals("date: 1403/01/05 08:04:09", jalaliDate.appendTo(new StringBuilder("date: ")).toString());
+        assertEquals("1403/01/05 08:04:09", jalaliDate.appendTo(new StringWriter()).toString());
+
+        byte[] bytes = new byte[21];
+        assertEquals(20, jalaliDate.writeAscii(bytes, 1));
+        assertEquals("1403/01/05 08:04:09", new String(bytes, 1, 19, StandardCharsets.US_ASCII));
+
+        for (JalaliDate date : new JalaliDate[]{new JalaliDate(), new JalaliDate(12345, 11, 30, 23, 59, 59),
+                new JalaliDate(-7, -1, 0, 0, 0, -10)}) {
+            String expected = String.format("%1$04d/%2$02d/%3$02d %4$02d:%5$02d:%6$02d", date.getYear(),
+                    date.getMonth(), date.getDay(), date.getHour(), date.getMinute(), date.getSecond());
+            assertEquals(expected, date.toString());
+            assertEquals(expected, date.appendTo(new StringWriter()).toString());
+            bytes = new byte[32];
+            assertEquals(expected, new String(bytes, 0, date.writeAscii(bytes, 0), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    public void rollAfterGet() {
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 1, 15, 10, 20, 30));
+        assertEquals(15, jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+        jalaliCalendar.roll(Calendar.DAY_OF_MONTH, true);
+        assertEquals(16, jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+        jalaliCalendar.roll(Calendar.MONTH, false);
+        assertEquals(12 - 1, jalaliCalendar.get(Calendar.MONTH));
+        assertEquals(1403, jalaliCalendar.get(Calendar.YEAR));
+
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tehran"));
+            TimeZone utc = TimeZone.getTimeZone("UTC");
+            jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 1, 15, 10, 20, 30, 0, utc), utc);
+            JalaliDate jalaliDate = jalaliCalendar.getJalaliDate();
+            long time = jalaliCalendar.getTimeInMillis();
+            jalaliCalendar.roll(Calendar.MINUTE, true);
+            jalaliCalendar.roll(Calendar.MINUTE, true);
+            assertEquals(new JalaliDate(jalaliDate.getYear(), jalaliDate.getMonth(), jalaliDate.getDay(),
+                    jalaliDate.getHour(), jalaliDate.getMinute() + 2, jalaliDate.getSecond()),
+                    jalaliCalendar.getJalaliDate());
+            assertEquals(time + 120000, jalaliCalendar.getTimeInMillis());
+            jalaliCalendar.roll(Calendar.HOUR_OF_DAY, false);
+            assertEquals(jalaliDate.getHour() - 1, jalaliCalendar.get(Calendar.HOUR_OF_DAY));
+            assertEquals(jalaliDate.getDay(), jalaliCalendar.get(Calendar.DAY_OF_MONTH));
+
+            jalaliCalendar = new JalaliCalendar(new Date(time), utc, TimeZone.getTimeZone("Europe/Berlin"));
+            jalaliDate = jalaliCalendar.getJalaliDate();
+            jalaliCalendar.set(Calendar.SECOND, 0);
+            jalaliCalendar.add(Calendar.MINUTE, 1);
+            assertEquals(new JalaliDate(jalaliDate.getYear(), jalaliDate.getMonth(), jalaliDate.getDay(),
+                    jalaliDate.getHour(), jalaliDate.getMinute() + 1, 0), jalaliCalendar.getJalaliDate());
+            assertEquals(time + 30000, jalaliCalendar.getTimeInMillis());
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void zoneAndDstOffset() {
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Berlin");
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(new Date(0), timeZone, timeZone);
+        Calendar calendar = Calendar.getInstance(timeZone);
+        for (long millis = 1711000000000L; millis < 1711000000000L + 400L * 86400000; millis += 86400000) {
+            jalaliCalendar.setTimeInMillis(millis);
+            calendar.setTimeInMillis(millis);
+            assertEquals(calendar.get(Calendar.ZONE_OFFSET), jalaliCalendar.get(Calendar.ZONE_OFFSET));
+            assertEquals(calendar.get(Calendar.DST_OFFSET), jalaliCalendar.get(Calendar.DST_OFFSET));
+        }
+    }
+
+    @Test
+    public void reuseWithSetTimeInMillis() {
+        TimeZone timeZone = TimeZone.getTimeZone("Asia/Tehran");
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(new Date(0), timeZone, timeZone);
+        for (long millis = 1711000000000L; millis < 1711000000000L + 40L * 86400000; millis += 3600000) {
+            jalaliCalendar.setTimeInMillis(millis);
+            JalaliDate expected = new JalaliCalendar(new Date(millis), timeZone, timeZone).getJalaliDate();
+            assertEquals(expected, jalaliCalendar.getJalaliDate());
+            assertEquals(millis, jalaliCalendar.getTimeInMillis());
+        }
+    }
+
+    @Test
+    public void jalaliDatePackedLong() {
+        TimeZone timeZone = TimeZone.getTimeZone("Asia/Tehran");
+        JalaliDate jalaliDate = new JalaliDate(1403, 12, 30, 23, 59, 58, 999, timeZone);
+        JalaliDate unpacked = JalaliDate.fromPackedLong(jalaliDate.toPackedLong(), timeZone);
+        assertEquals(jalaliDate, unpacked);
+        assertEquals(999, unpacked.getMillisecond());
+        assertEquals(jalaliDate.hashCode(), unpacked.hashCode());
+        assertThrows(IllegalArgumentException.class, () -> new JalaliDate(1403, -1, 1).toPackedLong());
+
+        JalaliDate[] dates = {new JalaliDate(1402, 12, 29, 23, 59, 59, 999), new JalaliDate(1403, 1, 1),
+                new JalaliDate(1403, 1, 1, 0, 0, 0, 1), new JalaliDate(1403, 1, 1, 0, 0, 1),
+                new JalaliDate(1403, 1, 1, 0, 1, 0), new JalaliDate(1403, 1, 1, 1, 0, 0),
+                new JalaliDate(1403, 1, 2), new JalaliDate(1403, 2, 1), new JalaliDate(1404, 1, 1)};
+        for (int i = 0; i < dates.length; i++) {
+            for (int j = 0; j < dates.length; j++) {
+                assertEquals(Integer.compare(i, j), dates[i].compareTo(dates[j]));
+                assertEquals(Integer.compare(i, j), Long.signum(Long.compare(dates[i].toPackedLong(),
+                        dates[j].toPackedLong())));
+            }
+        }
+    }
 }
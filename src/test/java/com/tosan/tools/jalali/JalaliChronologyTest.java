@@ -0,0 +1,84 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.chrono.ChronoPeriod;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliChronologyTest {
+
+    @Test
+    public void convertFromLocalDate() {
+        JalaliLocalDate date = JalaliLocalDate.from(LocalDate.of(2024, 4, 3));
+        assertEquals(JalaliLocalDate.of(1403, 1, 15), date);
+        assertEquals(LocalDate.of(2024, 4, 3), date.toLocalDate());
+        assertEquals(LocalDate.of(2025, 3, 20), LocalDate.from(JalaliLocalDate.of(1403, 12, 30)));
+        assertEquals(JalaliLocalDate.of(1348, 10, 11), JalaliChronology.INSTANCE.dateEpochDay(0));
+    }
+
+    @Test
+    public void formatAndParse() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd").withChronology(JalaliChronology.INSTANCE);
+        assertEquals("1403/01/15", formatter.format(LocalDate.of(2024, 4, 3)));
+        assertEquals(JalaliLocalDate.of(1403, 1, 15), JalaliLocalDate.from(formatter.parse("1403/01/15")));
+        assertEquals(LocalDate.of(2024, 4, 3), LocalDate.from(formatter.parse("1403/01/15")));
+    }
+
+    @Test
+    public void zonedDateTime() {
+        ChronoZonedDateTime<JalaliLocalDate> dateTime = JalaliChronology.INSTANCE
+                .zonedDateTime(Instant.parse("2024-03-19T21:00:00Z"), ZoneId.of("Asia/Tehran"));
+        assertEquals(JalaliLocalDate.of(1403, 1, 1), dateTime.toLocalDate());
+        assertEquals(LocalTime.of(0, 30), dateTime.toLocalTime());
+        assertEquals(Instant.parse("2024-03-19T21:00:00Z"),
+                JalaliLocalDate.of(1403, 1, 1).atTime(LocalTime.of(0, 30)).atZone(ZoneId.of("Asia/Tehran")).toInstant());
+    }
+
+    @Test
+    public void fields() {
+        JalaliLocalDate date = JalaliLocalDate.of(1403, 7, 30);
+        assertEquals(30, date.lengthOfMonth());
+        assertEquals(366, date.lengthOfYear());
+        assertEquals(216, date.get(ChronoField.DAY_OF_YEAR));
+        assertEquals(1, date.get(ChronoField.ERA));
+        assertEquals(LocalDate.of(2024, 10, 21).getDayOfWeek().getValue(), date.get(ChronoField.DAY_OF_WEEK));
+        assertTrue(JalaliChronology.INSTANCE.isLeapYear(1403));
+        assertFalse(JalaliChronology.INSTANCE.isLeapYear(1404));
+        assertEquals(29, JalaliLocalDate.of(1404, 12, 1).lengthOfMonth());
+        assertEquals(JalaliLocalDate.of(1403, 12, 30), date.with(TemporalAdjusters.lastDayOfYear()));
+    }
+
+    @Test
+    public void invalidDates() {
+        assertThrows(DateTimeException.class, () -> JalaliLocalDate.of(1404, 12, 30));
+        assertThrows(DateTimeException.class, () -> JalaliLocalDate.of(1403, 7, 31));
+        assertThrows(DateTimeException.class, () -> JalaliLocalDate.of(1403, 13, 1));
+        assertThrows(DateTimeException.class, () -> JalaliLocalDate.of(978, 1, 1));
+    }
+
+    @Test
+    public void plusAndUntil() {
+        JalaliLocalDate date = JalaliLocalDate.of(1403, 6, 31);
+        assertEquals(JalaliLocalDate.of(1403, 7, 30), date.plusMonths(1));
+        assertEquals(JalaliLocalDate.of(1404, 12, 29), JalaliLocalDate.of(1403, 12, 30).plusYears(1));
+        assertEquals(JalaliLocalDate.of(1403, 7, 1), date.plus(1, ChronoUnit.DAYS));
+        assertEquals(JalaliLocalDate.of(1402, 12, 29), JalaliLocalDate.of(1403, 1, 1).minus(1, ChronoUnit.DAYS));
+        assertEquals(366, JalaliLocalDate.of(1403, 1, 1).until(JalaliLocalDate.of(1404, 1, 1), ChronoUnit.DAYS));
+        assertEquals(11, JalaliLocalDate.of(1403, 1, 15).until(JalaliLocalDate.of(1404, 1, 14), ChronoUnit.MONTHS));
+
+        ChronoPeriod period = JalaliLocalDate.of(1402, 11, 20).until(JalaliLocalDate.of(1403, 2, 5));
+        assertEquals(JalaliChronology.INSTANCE.period(0, 2, 16), period);
+        assertEquals(JalaliLocalDate.of(1403, 2, 5), JalaliLocalDate.of(1402, 11, 20).plus(period));
+    }
+}
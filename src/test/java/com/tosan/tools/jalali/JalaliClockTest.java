@@ -0,0 +1,80 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliClockTest {
+
+    @Test
+    public void todayRollsOverAtMidnight() {
+        ZoneId tehran = ZoneId.of("Asia/Tehran");
+        long midnight = LocalDateTime.of(2024, 4, 4, 0, 0).atZone(tehran).toInstant().toEpochMilli();
+        SettableClock clock = new SettableClock(midnight - 1, tehran);
+        JalaliClock jalaliClock = new JalaliClock(clock);
+        assertSame(JalaliDay.of(1403, 1, 15), jalaliClock.today());
+        JalaliDate now = jalaliClock.now();
+        assertEquals(new JalaliDate(1403, 1, 15, 23, 59, 59, 999, TimeZone.getTimeZone(tehran)), now);
+        assertEquals(999, now.getMillisecond());
+
+        clock.millis = midnight;
+        assertSame(JalaliDay.of(1403, 1, 16), jalaliClock.today());
+        assertEquals(new JalaliDate(1403, 1, 16, 0, 0, 0, 0, TimeZone.getTimeZone(tehran)), jalaliClock.now());
+        clock.millis = midnight - 1;
+        assertSame(JalaliDay.of(1403, 1, 15), jalaliClock.today());
+    }
+
+    @Test
+    public void nowMatchesTheZoneAcrossTransitions() {
+        for (String id : new String[]{"America/New_York", "Asia/Tehran", "Australia/Lord_Howe"}) {
+            ZoneId zone = ZoneId.of(id);
+            SettableClock clock = new SettableClock(1_600_000_000_000L, zone);
+            JalaliClock jalaliClock = new JalaliClock(clock);
+            for (long millis = 1_600_000_000_000L; millis < 1_700_000_000_000L; millis += 1_234_567L) {
+                clock.millis = millis;
+                LocalDateTime local = Instant.ofEpochMilli(millis).atZone(zone).toLocalDateTime();
+                int jalali = JalaliUtil.fromEpochDay(local.toLocalDate().toEpochDay());
+                JalaliDate now = jalaliClock.now();
+                assertEquals(new JalaliDate(jalali / 10000, jalali / 100 % 100, jalali % 100, local.getHour(),
+                        local.getMinute(), local.getSecond(), 0, TimeZone.getTimeZone(zone)), now, id + " " + millis);
+                assertEquals(local.getNano() / 1_000_000, now.getMillisecond());
+            }
+        }
+    }
+
+    private static final class SettableClock extends Clock {
+        private volatile long millis;
+        private final ZoneId zone;
+
+        private SettableClock(long millis, ZoneId zone) {
+            this.millis = millis;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new SettableClock(millis, zone);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliColumnRewriterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void rewrite() throws IOException {
+        Path source = directory.resolve("source.csv");
+        Path target = directory.resolve("target.csv");
+        write(source, "id,date,name,updated\n" +
+                "1,2024-04-03,\"a, b\",2024/03/20 10:20:30\r\n" +
+                "2,2025-02-29,c,\"2025-03-21T00:00:00\"\n" +
+                "3,,d,2024-4-3\n" +
+                "4,2024-03-19");
+        long count = JalaliColumnRewriter.of(',', 1, 3).rewrite(source, target);
+        assertEquals(4, count);
+        assertEquals("id,date,name,updated\n" +
+                "1,1403-01-15,\"a, b\",1403/01/01 10:20:30\r\n" +
+                "2,2025-02-29,c,\"1404-01-01T00:00:00\"\n" +
+                "3,,d,2024-4-3\n" +
+                "4,1402-12-29", new String(Files.readAllBytes(target), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void rewriteInParallel() throws IOException {
+        Path source = directory.resolve("source.tsv");
+        Path target = directory.resolve("target.tsv");
+        StringBuilder text = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        LocalDate date = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < 20000; i++, date = date.plusDays(1)) {
+            JalaliLocalDate jalaliDate = JalaliLocalDate.from(date);
+            text.append(i).append('\t').append(date).append('\n');
+            expected.append(i).append('\t').append(String.format("%04d-%02d-%02d", jalaliDate.getYear(),
+                    jalaliDate.getMonth(), jalaliDate.getDay())).append('\n');
+        }
+        write(source, text.toString());
+        long count = JalaliColumnRewriter.of('\t', 1).withChunkSize(4096).withParallelism(4).rewrite(source, target);
+        assertEquals(20000, count);
+        assertEquals(expected.toString(), new String(Files.readAllBytes(target), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> JalaliColumnRewriter.of(','));
+        assertThrows(IllegalArgumentException.class, () -> JalaliColumnRewriter.of(',', -1));
+        assertThrows(IllegalArgumentException.class, () -> JalaliColumnRewriter.of('\n', 0));
+        assertThrows(IllegalArgumentException.class, () -> JalaliColumnRewriter.of(',', 0).withParallelism(0));
+    }
+
+    @Test
+    public void targetIsSource() throws IOException {
+        Path source = directory.resolve("source.csv");
+        write(source, "1,2024-04-03\n");
+        JalaliColumnRewriter rewriter = JalaliColumnRewriter.of(',', 1);
+        assertThrows(IllegalArgumentException.class, () -> rewriter.rewrite(source, source));
+        assertThrows(IllegalArgumentException.class,
+                () -> rewriter.rewrite(source, directory.resolve(".").resolve("source.csv")));
+        Path link = Files.createLink(directory.resolve("link.csv"), source);
+        assertThrows(IllegalArgumentException.class, () -> rewriter.rewrite(source, link));
+        assertEquals("1,2024-04-03\n", new String(Files.readAllBytes(source), StandardCharsets.US_ASCII));
+    }
+
+    private static void write(Path path, String text) throws IOException {
+        Files.write(path, text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,137 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliConverterTest {
+    private static final String[] ZONES = {"UTC", "Asia/Tehran", "America/New_York"};
+
+    @Test
+    public void matchesJalaliUtil() {
+        JalaliConverter converter = new JalaliConverter();
+        Date date = new Date(1711000000000L);
+        assertEquals(JalaliUtil.gregorianToJalali(date), converter.toJalali(date));
+        JalaliDate jalaliDate = new JalaliDate(1403, 1, 15, 10, 20, 30);
+        assertEquals(JalaliUtil.jalaliToGregorian(jalaliDate), converter.toGregorian(jalaliDate));
+        assertNull(converter.toGregorian(new JalaliDate(1404, 12, 30)));
+    }
+
+    @Test
+    public void matchesJalaliCalendar() {
+        Random random = new Random(22);
+        for (String era : ZONES) {
+            for (String des : ZONES) {
+                TimeZone eraTimeZone = TimeZone.getTimeZone(era);
+                TimeZone desTimeZone = TimeZone.getTimeZone(des);
+                JalaliConverter converter = new JalaliConverter(eraTimeZone, desTimeZone);
+                for (int i = 0; i < 500; i++) {
+                    Date date = randomDate(random);
+                    assertEquals(new JalaliCalendar(date, eraTimeZone, desTimeZone).getJalaliDate().toPackedLong(),
+                            converter.toJalali(date).toPackedLong());
+                    JalaliDate jalaliDate = randomJalaliDate(random, eraTimeZone);
+                    assertEquals(new JalaliCalendar(jalaliDate, desTimeZone).getTime(),
+                            converter.toGregorian(jalaliDate));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void daysAndColumnsMatchJalaliUtil() {
+        Random random = new Random(12);
+        for (String des : ZONES) {
+            TimeZone desTimeZone = TimeZone.getTimeZone(des);
+            JalaliConverter converter = new JalaliConverter(TimeZone.getTimeZone("UTC"), desTimeZone);
+            long[] millis = new long[20000];
+            for (int i = 0; i < millis.length; i++) {
+                millis[i] = randomDate(random).getTime();
+            }
+            int[] expectedPacked = new int[millis.length];
+            JalaliUtil.toJalali(millis, desTimeZone, expectedPacked);
+            int[] packed = new int[millis.length];
+            converter.toJalali(millis, packed);
+            assertArrayEquals(expectedPacked, packed);
+
+            long[] expectedMillis = new long[packed.length];
+            JalaliUtil.toEpochMillis(packed, desTimeZone, expectedMillis);
+            long[] startOfDays = new long[packed.length];
+            converter.toEpochMillis(packed, startOfDays);
+            assertArrayEquals(expectedMillis, startOfDays);
+
+            for (int i = 0; i < 500; i++) {
+                JalaliDay jalaliDay = converter.toJalaliDay(millis[i]);
+                assertEquals(packed[i], jalaliDay.getYear() * 10000 + jalaliDay.getMonth() * 100 + jalaliDay.getDay());
+                assertEquals(startOfDays[i], converter.toEpochMillis(jalaliDay));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new JalaliConverter().toJalali(new long[2], new int[1]));
+    }
+
+    @Test
+    public void concurrentConversions() throws InterruptedException, ExecutionException {
+        TimeZone tehran = TimeZone.getTimeZone("Asia/Tehran");
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        JalaliConverter converter = new JalaliConverter(tehran, utc);
+        Random random = new Random(7);
+        Date[] dates = new Date[2000];
+        JalaliDate[] jalaliDates = new JalaliDate[dates.length];
+        long[] expectedJalali = new long[dates.length];
+        Date[] expectedGregorian = new Date[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = randomDate(random);
+            jalaliDates[i] = randomJalaliDate(random, tehran);
+            expectedJalali[i] = new JalaliCalendar(dates[i], tehran, utc).getJalaliDate().toPackedLong();
+            expectedGregorian[i] = new JalaliCalendar(jalaliDates[i], utc).getTime();
+        }
+
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger mismatches = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 61;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < 20; round++) {
+                        for (int i = 0; i < dates.length; i++) {
+                            int index = (i + offset) % dates.length;
+                            if (converter.toJalali(dates[index]).toPackedLong() != expectedJalali[index]
+                                    || !converter.toGregorian(jalaliDates[index]).equals(expectedGregorian[index])) {
+                                mismatches.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, mismatches.get());
+    }
+
+    private static Date randomDate(Random random) {
+        return new Date(-2_000_000_000_000L + (long) (random.nextDouble() * 4_000_000_000_000L));
+    }
+
+    private static JalaliDate randomJalaliDate(Random random, TimeZone timeZone) {
+        return new JalaliDate(1300 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(29),
+                random.nextInt(24), random.nextInt(3) == 0 ? 0 : random.nextInt(60), random.nextInt(60),
+                random.nextInt(1000), timeZone);
+    }
+}
@@ -0,0 +1,127 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliDateCodecTest {
+    private static final TimeZone TEHRAN = TimeZone.getTimeZone("Asia/Tehran");
+
+    @Test
+    public void byteBuffer() {
+        JalaliDate jalaliDate = new JalaliDate(1403, 1, 15, 10, 20, 30, 456, TEHRAN);
+        ByteBuffer buffer = ByteBuffer.allocate(JalaliDateCodec.SIZE + JalaliDateCodec.DATE_SIZE);
+        JalaliDateCodec.write(jalaliDate, buffer);
+        JalaliDateCodec.writeDate(jalaliDate, buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+
+        JalaliDate read = JalaliDateCodec.read(buffer);
+        assertEquals(jalaliDate, read);
+        assertEquals(456, read.getMillisecond());
+        assertEquals("Asia/Tehran", read.getTimeZone().getID());
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        assertEquals(utc, JalaliDateCodec.readDate(buffer, utc).getTimeZone());
+    }
+
+    @Test
+    public void dataOutput() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        JalaliDate custom = new JalaliDate(1402, 12, 29, 23, 59, 59, 999, TimeZone.getTimeZone("GMT+03:30"));
+        JalaliDate noZone = new JalaliDate(1403, 1, 1);
+        noZone.setTimeZone(null);
+        JalaliDateCodec.write(custom, out);
+        JalaliDateCodec.write(noZone, out);
+        assertEquals(2 * JalaliDateCodec.SIZE, bytes.size());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        JalaliDate read = JalaliDateCodec.read(in);
+        assertEquals(custom, read);
+        assertEquals("GMT+03:30", read.getTimeZone().getID());
+        assertNull(JalaliDateCodec.read(in).getTimeZone());
+    }
+
+    @Test
+    public void sortableKey() {
+        List<JalaliDate> dates = Arrays.asList(new JalaliDate(1403, 1, 15, 10, 20, 30, 0, TEHRAN),
+                new JalaliDate(-5, 1, 1, 0, 0, 0, 0, TEHRAN), new JalaliDate(1403, 1, 15, 10, 20, 30, 1, TEHRAN),
+                new JalaliDate(1399, 12, 30, 0, 0, 0, 0, TEHRAN), new JalaliDate(0, 6, 31, 0, 0, 0, 0, TEHRAN));
+        List<byte[]> keys = new ArrayList<>();
+        for (JalaliDate jalaliDate : dates) {
+            byte[] key = JalaliDateCodec.toSortableKey(jalaliDate);
+            assertEquals(jalaliDate, JalaliDateCodec.fromSortableKey(key));
+            keys.add(key);
+        }
+        List<JalaliDate> sortedDates = new ArrayList<>(dates);
+        sortedDates.sort(Comparator.comparingLong(JalaliDate::toPackedLong));
+        keys.sort(JalaliDateCodecTest::compareUnsigned);
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(sortedDates.get(i), JalaliDateCodec.fromSortableKey(keys.get(i)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCodec.fromSortableKey(new byte[8]));
+    }
+
+    @Test
+    public void zoneIds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JalaliDateCodec.zoneCode(new SimpleTimeZone(0, "Jalali/Test")));
+        JalaliDateCodec.registerZoneId("Jalali/Test");
+        JalaliDateCodec.registerZoneId("Jalali/Test");
+        int zoneCode = JalaliDateCodec.zoneCode(new SimpleTimeZone(0, "Jalali/Test"));
+        assertEquals("Jalali/Test".hashCode(), zoneCode);
+        assertEquals("GMT", JalaliDateCodec.timeZone(zoneCode).getID());
+        // "UF" has the hash code of "Te"
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCodec.registerZoneId("Asia/UFhran"));
+        assertThrows(IllegalArgumentException.class,
+                () -> JalaliDateCodec.zoneCode(new SimpleTimeZone(0, "Asia/UFhran")));
+        assertEquals("Asia/Tehran", JalaliDateCodec.timeZone("Asia/Tehran".hashCode()).getID());
+        // "f5a5a608" has the hash code 0, the code of no time zone
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCodec.registerZoneId("f5a5a608"));
+        assertThrows(IllegalArgumentException.class,
+                () -> JalaliDateCodec.zoneCode(new SimpleTimeZone(0, "f5a5a608")));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCodec.timeZone(42));
+        assertNull(JalaliDateCodec.timeZone(0));
+    }
+
+    @Test
+    public void serialization() throws IOException, ClassNotFoundException {
+        JalaliDate jalaliDate = new JalaliDate(1403, 1, 15, 10, 20, 30, 456, TEHRAN);
+        JalaliDate invalid = new JalaliDate(1403, -1, 40, 10, 20, 30, 0, new SimpleTimeZone(1000, "Asia/Tehran"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(jalaliDate);
+            out.writeObject(invalid);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            JalaliDate read = (JalaliDate) in.readObject();
+            assertEquals(jalaliDate, read);
+            assertEquals(456, read.getMillisecond());
+            assertTrue(TEHRAN.hasSameRules(read.getTimeZone()));
+            JalaliDate readInvalid = (JalaliDate) in.readObject();
+            assertEquals(invalid, readInvalid);
+            assertEquals(-1, readInvalid.getMonth());
+            assertEquals(1000, readInvalid.getTimeZone().getRawOffset());
+        }
+
+        bytes.reset();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(jalaliDate);
+        }
+        assertTrue(bytes.size() < 150, "the size of the serialized date is " + bytes.size());
+    }
+
+    private static int compareUnsigned(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int compare = Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliDateParserTest {
+
+    @Test
+    public void parseDate() {
+        assertEquals(14030115, JalaliDateParser.parseDate("1403/01/15"));
+        assertEquals(14030115, JalaliDateParser.parseDate("1403-01-15"));
+        assertEquals(14030115, JalaliDateParser.parseDate("14030115"));
+        assertEquals(14031230, JalaliDateParser.parseDate("id=1403/12/30;", 3, 10));
+        assertEquals(14031230, JalaliDateParser.parseDate("1403/12/30".getBytes(StandardCharsets.US_ASCII), 0, 10));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put("xx14030115".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(14030115, JalaliDateParser.parseDate(buffer, 2, 8));
+        assertEquals(10, buffer.position());
+    }
+
+    @Test
+    public void parseInvalidDate() {
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("1404/12/30"));
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("1403/07/31"));
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("1403/13/01"));
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("1403/01-15"));
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("1403/1/15"));
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("1403011a"));
+        assertEquals(JalaliDateParser.INVALID, JalaliDateParser.parseDate("140301"));
+    }
+
+    @Test
+    public void parseDateTime() {
+        TimeZone timeZone = TimeZone.getTimeZone("Asia/Tehran");
+        JalaliDate target = new JalaliDate(1, 1, 1, 0, 0, 0, 0, timeZone);
+        assertTrue(JalaliDateParser.parseDateTime("1403-01-15 10:20:30", 0, 19, target));
+        assertEquals(new JalaliDate(1403, 1, 15, 10, 20, 30, 0, timeZone), target);
+
+        byte[] bytes = "1403-01-15T10:20:30.450".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(JalaliDateParser.parseDateTime(bytes, 0, bytes.length, target));
+        assertEquals(450, target.getMillisecond());
+
+        assertTrue(JalaliDateParser.parseDateTime(ByteBuffer.wrap("14030116".getBytes(StandardCharsets.US_ASCII)),
+                0, 8, target));
+        assertEquals(new JalaliDate(1403, 1, 16, 0, 0, 0, 0, timeZone), target);
+
+        assertFalse(JalaliDateParser.parseDateTime("1403-01-15 24:20:30", 0, 19, target));
+        assertFalse(JalaliDateParser.parseDateTime("1403-01-15 10:20", 0, 16, target));
+        assertFalse(JalaliDateParser.parseDateTime("1403-01-15_10:20:30", 0, 19, target));
+        assertEquals(new JalaliDate(1403, 1, 16, 0, 0, 0, 0, timeZone), target);
+    }
+}
@@ -0,0 +1,76 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliDateRangeTest {
+
+    @Test
+    public void days() {
+        JalaliDateRange range = JalaliDateRange.of(JalaliDay.of(1403, 12, 28), JalaliDay.of(1404, 1, 3));
+        assertEquals(5, range.size());
+        List<JalaliDay> days = new ArrayList<>();
+        range.forEach(days::add);
+        assertEquals(JalaliDay.of(1403, 12, 28), days.get(0));
+        assertEquals(JalaliDay.of(1403, 12, 30), days.get(2));
+        assertEquals(JalaliDay.of(1404, 1, 2), days.get(4));
+        assertEquals(days, range.stream().collect(Collectors.toList()));
+        assertTrue(JalaliDateRange.of(JalaliDay.of(1404, 1, 3), JalaliDay.of(1403, 12, 28)).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> range.get(5));
+    }
+
+    @Test
+    public void weeks() {
+        JalaliDateRange range = JalaliDateRange.of(JalaliDay.of(1403, 1, 1), JalaliDay.of(1403, 2, 1))
+                .withStep(1, ChronoUnit.WEEKS);
+        assertEquals(5, range.size());
+        assertEquals(JalaliDay.of(1403, 1, 29), range.get(4));
+    }
+
+    @Test
+    public void months() {
+        JalaliDateRange range = JalaliDateRange.of(JalaliDay.of(1403, 6, 31), JalaliDay.of(1404, 6, 31))
+                .withStep(1, ChronoUnit.MONTHS);
+        assertEquals(12, range.size());
+        assertEquals(JalaliDay.of(1403, 7, 30), range.get(1));
+        assertEquals(JalaliDay.of(1403, 12, 30), range.get(6));
+        assertEquals(JalaliDay.of(1404, 5, 31), range.get(11));
+
+        JalaliDateRange years = JalaliDateRange.of(JalaliDay.of(1403, 12, 30), JalaliDay.of(1412, 12, 29))
+                .withStep(4, ChronoUnit.YEARS);
+        assertEquals(3, years.size());
+        assertEquals(JalaliDay.of(1407, 12, 29), years.get(1));
+        assertEquals(JalaliDay.of(1411, 12, 29), years.get(2));
+
+        JalaliDateRange last = JalaliDateRange.of(JalaliDay.of(9979, 1, 15), JalaliDay.of(9979, 12, 29))
+                .withStep(2, ChronoUnit.MONTHS);
+        assertEquals(6, last.size());
+        assertThrows(IllegalArgumentException.class, () -> last.withStep(1, ChronoUnit.HOURS));
+        assertThrows(IllegalArgumentException.class, () -> last.withStep(0, ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void parallelStream() {
+        JalaliDateRange range = JalaliDateRange.of(JalaliDay.of(1300, 1, 1), JalaliDay.of(1500, 1, 1));
+        long days = range.getEnd().toEpochDay() - range.getStart().toEpochDay();
+        assertEquals(days, range.size());
+        List<JalaliDay> expected = new ArrayList<>();
+        for (long epochDay = range.getStart().toEpochDay(); epochDay < range.getEnd().toEpochDay(); epochDay++) {
+            expected.add(JalaliDay.ofEpochDay(epochDay));
+        }
+        assertEquals(expected, range.stream().parallel().collect(Collectors.toList()));
+
+        Spliterator<JalaliDay> suffix = range.spliterator();
+        Spliterator<JalaliDay> prefix = suffix.trySplit();
+        assertEquals(days / 2, prefix.estimateSize());
+        assertEquals(days - days / 2, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+    }
+}
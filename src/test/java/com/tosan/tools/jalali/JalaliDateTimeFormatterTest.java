@@ -0,0 +1,123 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliDateTimeFormatterTest {
+
+    @Test
+    public void format() {
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss.SSS");
+        assertEquals("1403/01/05 08:04:09.007", formatter.format(new JalaliDate(1403, 1, 5, 8, 4, 9, 7)));
+        assertEquals("03-1-5 'T' 8", JalaliDateTimeFormatter.ofPattern("yy-M-d '''T''' H")
+                .format(new JalaliDate(1403, 1, 5, 8, 4, 9)));
+        assertEquals("14030105", JalaliDateTimeFormatter.ofPattern("yyyyMMdd").format(new JalaliDate(1403, 1, 5)));
+    }
+
+    @Test
+    public void formatLocalized() {
+        JalaliDate jalaliDate = new JalaliDate(1403, 1, 15, 8, 4, 9);
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("d MMMM yyyy");
+        assertEquals("15 Farvardin 1403", formatter.format(jalaliDate));
+        assertEquals("۱۵ فروردین ۱۴۰۳", formatter.withLocale(new Locale("fa", "IR")).format(jalaliDate));
+        assertEquals("چهارشنبه ۱۵ فروردین ۱۴۰۳، ۰۸:۰۴",
+                JalaliDateTimeFormatter.ofPattern("EEEE d MMMM yyyy، HH:mm").withLocale(new Locale("fa"))
+                        .format(jalaliDate));
+        assertEquals("Panjshanbeh 30 Esfand 1403", JalaliDateTimeFormatter.ofPattern("E d MMM yyyy")
+                .withLocale(Locale.ENGLISH).format(new JalaliDate(1403, 12, 30)));
+        assertEquals("سه\u200cشنبه", JalaliDateTimeFormatter.ofPattern("E").withLocale(new Locale("fa", "IR"))
+                .format(new JalaliDate(1403, 1, 14)));
+        assertEquals("fa", formatter.withLocale(new Locale("fa")).getLocale().getLanguage());
+        assertThrows(IllegalArgumentException.class, () -> formatter.withLocale(Locale.FRENCH));
+    }
+
+    @Test
+    public void formatCalendar() {
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(new JalaliDate(1403, 12, 30, 23, 59, 58));
+        assertEquals("۱۴۰۳/۱۲/۳۰ ۲۳:۵۹:۵۸ اسفند", JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss MMMM")
+                .withLocale(new Locale("fa", "IR")).format(jalaliCalendar));
+    }
+
+    @Test
+    public void formatLocalizedConcurrently() throws Exception {
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("EEEE d MMMM yyyy HH:mm:ss")
+                .withLocale(new Locale("fa", "IR"));
+        JalaliDate[] jalaliDates = new JalaliDate[1000];
+        String[] expected = new String[jalaliDates.length];
+        for (int i = 0; i < jalaliDates.length; i++) {
+            jalaliDates[i] = new JalaliDate(1300 + i % 200, 1 + i % 12, 1 + i % 29, i % 24, i % 60, i % 60);
+            expected[i] = formatter.format(jalaliDates[i]);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    StringBuilder sb = new StringBuilder();
+                    for (int i = 0; i < jalaliDates.length; i++) {
+                        sb.setLength(0);
+                        assertEquals(expected[i], formatter.formatTo(jalaliDates[i], sb).toString());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parse() {
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd, HH:mm");
+        assertEquals(new JalaliDate(1383, 9, 19, 15, 14, 0), formatter.parse("1383/9/19, 15:14"));
+        assertEquals(JalaliUtil.parseJalaliDate("1383/9/19, 15:14", "yyyy/MM/dd, HH:mm"),
+                formatter.parse("1383/9/19, 15:14"));
+        assertEquals(new JalaliDate(1403, 1, 15), JalaliDateTimeFormatter.ofPattern("yyyyMMdd").parse("14030115"));
+        assertEquals(new JalaliDate(1403, 12, 30), JalaliDateTimeFormatter.ofPattern("yy/MM/dd").parse("03/12/30"));
+        assertEquals(new JalaliDate(1403, 2, 1), JalaliDateTimeFormatter.ofPattern("yyyy/MM").parse("1403/02"));
+
+        JalaliDate jalaliDate = JalaliDateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
+                .withTimeZone(TimeZone.getTimeZone("Asia/Tehran")).parse("1403-01-15T10:20:30.450");
+        assertEquals(450, jalaliDate.getMillisecond());
+        assertEquals("Asia/Tehran", jalaliDate.getTimeZone().getID());
+    }
+
+    @Test
+    public void parseLocalized() {
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("EEEE d MMMM yyyy")
+                .withLocale(new Locale("fa", "IR"));
+        assertEquals(new JalaliDate(1403, 1, 15), formatter.parse("چهارشنبه ۱۵ فروردین ۱۴۰۳"));
+        assertEquals(new JalaliDate(1403, 12, 30), formatter.parse("پنج\u200cشنبه 30 اسفند 1403"));
+        assertEquals(new JalaliDate(1403, 8, 1),
+                JalaliDateTimeFormatter.ofPattern("d MMMM yyyy").parse("1 Aban 1403"));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("چهارشنبه ۱۵ Farvardin ۱۴۰۳"));
+    }
+
+    @Test
+    public void parseInvalidText() {
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd");
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("1404/12/30"));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("1403/13/01"));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("1403-01-01"));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("1403/01/01 "));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("1403/01/"));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTimeFormatter.ofPattern("yyyyMMdd").parse("140301"));
+    }
+
+    @Test
+    public void invalidPattern() {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTimeFormatter.ofPattern("yyyy/MM/dd a"));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTimeFormatter.ofPattern("yyyy 'at"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliDayCacheTest {
+
+    @Test
+    public void get() {
+        JalaliDayCache cache = new JalaliDayCache(100);
+        assertEquals(128, cache.getCapacity());
+        for (long epochDay = 19000; epochDay < 21000; epochDay++) {
+            assertEquals(JalaliUtil.fromEpochDay(epochDay), cache.get(epochDay));
+            assertEquals(JalaliUtil.fromEpochDay(epochDay), cache.get(epochDay));
+        }
+        assertEquals(2000, cache.getHitCount());
+        assertEquals(2000, cache.getMissCount());
+
+        assertEquals(14030101, cache.get(19802));
+        assertEquals(2001, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new JalaliDayCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new JalaliDayCache(1 << 25));
+    }
+
+    @Test
+    public void install() {
+        Date date = new Date(1711000000000L);
+        JalaliDate expected = JalaliUtil.gregorianToJalali(date);
+        JalaliDayCache cache = JalaliDayCache.install(16);
+        try {
+            assertSame(cache, JalaliDayCache.getInstalled());
+            assertEquals(expected, JalaliUtil.gregorianToJalali(date));
+            assertEquals(expected, JalaliUtil.gregorianToJalali(date));
+            assertEquals(1, cache.getMissCount());
+            assertEquals(1, cache.getHitCount());
+        } finally {
+            JalaliDayCache.uninstall();
+        }
+        assertNull(JalaliDayCache.getInstalled());
+    }
+}
@@ -0,0 +1,72 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliDayTest {
+
+    @Test
+    public void canonicalInstances() {
+        JalaliDay day = JalaliDay.of(1403, 1, 15);
+        assertSame(day, JalaliDay.of(1403, 1, 15));
+        assertSame(day, JalaliDay.ofEpochDay(19802 + 14));
+        assertSame(day, JalaliDay.from(new JalaliDate(1403, 1, 15, 10, 20, 30)));
+        assertSame(day, JalaliDay.of(1403, 1, 14).plusDays(1));
+        assertEquals("1403/01/15", day.toString());
+        assertEquals(15, day.getDayOfYear());
+    }
+
+    @Test
+    public void epochDay() {
+        for (long epochDay = JalaliUtil.toEpochDay(1390, 1, 1); epochDay < JalaliUtil.toEpochDay(1410, 1, 1);
+             epochDay++) {
+            JalaliDay day = JalaliDay.ofEpochDay(epochDay);
+            int packed = JalaliUtil.fromEpochDay(epochDay);
+            assertEquals(packed / 10000, day.getYear());
+            assertEquals(packed / 100 % 100, day.getMonth());
+            assertEquals(packed % 100, day.getDay());
+            assertEquals(epochDay, day.toEpochDay());
+            assertSame(day, JalaliDay.of(day.getYear(), day.getMonth(), day.getDay()));
+        }
+        assertEquals(JalaliUtil.MIN_YEAR, JalaliDay.ofEpochDay(JalaliUtil.toEpochDay(979, 1, 1)).getYear());
+        assertEquals(JalaliUtil.MAX_YEAR, JalaliDay.of(9979, 12, 29).getYear());
+    }
+
+    @Test
+    public void invalidDays() {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDay.of(1404, 12, 30));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDay.of(1403, 7, 31));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDay.of(1403, 13, 1));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDay.of(978, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDay.of(9980, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> JalaliDay.ofEpochDay(JalaliUtil.toEpochDay(979, 1, 1) - 1));
+        assertEquals(JalaliDay.of(1403, 12, 30), JalaliDay.of(1404, 1, 1).plusDays(-1));
+    }
+
+    @Test
+    public void conversions() {
+        TimeZone tehran = TimeZone.getTimeZone("Asia/Tehran");
+        JalaliDay day = JalaliDay.of(1403, 12, 30);
+        assertEquals(new JalaliDate(1403, 12, 30, 0, 0, 0, 0, tehran), day.toJalaliDate(tehran));
+        assertEquals(JalaliLocalDate.of(1403, 12, 30), day.toLocalDate());
+        assertEquals(day.toLocalDate().toEpochDay(), day.toEpochDay());
+        assertTrue(day.compareTo(JalaliDay.of(1404, 1, 1)) < 0);
+    }
+
+    @Test
+    public void serialization() throws IOException, ClassNotFoundException {
+        JalaliDay day = JalaliDay.of(1403, 1, 15);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(day);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(day, in.readObject());
+        }
+    }
+}
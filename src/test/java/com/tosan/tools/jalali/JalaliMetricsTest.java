@@ -0,0 +1,75 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliMetricsTest {
+
+    @AfterEach
+    public void uninstall() {
+        JalaliMetrics.uninstall();
+    }
+
+    @Test
+    public void recordInstalledMetrics() {
+        JalaliMetrics metrics = JalaliMetrics.install();
+        assertSame(metrics, JalaliMetrics.getInstalled());
+        AtomicLong parses = new AtomicLong();
+        JalaliMetrics.Listener listener = (operation, nanos) -> {
+            assertTrue(nanos >= 0);
+            if (operation == JalaliMetrics.Operation.PARSE) {
+                parses.incrementAndGet();
+            }
+        };
+        metrics.addListener(listener);
+
+        JalaliDate jalaliDate = JalaliUtil.gregorianToJalali(new Date(1711000000000L));
+        JalaliUtil.gregorianToJalali(new Date(1711000000000L));
+        JalaliUtil.jalaliToGregorian(jalaliDate);
+        JalaliUtil.parseJalaliDate("1403/01/15", "yyyy/MM/dd");
+        assertThrows(IllegalArgumentException.class, () -> JalaliUtil.parseJalaliDate("1403-01-15", "yyyy/MM/dd"));
+
+        assertEquals(2, metrics.getSnapshot(JalaliMetrics.Operation.GREGORIAN_TO_JALALI).getCount());
+        assertEquals(1, metrics.getSnapshot(JalaliMetrics.Operation.JALALI_TO_GREGORIAN).getCount());
+        assertEquals(2, metrics.getSnapshot(JalaliMetrics.Operation.PARSE).getCount());
+        assertEquals(2, parses.get());
+        assertTrue(metrics.getSnapshot(JalaliMetrics.Operation.COMPUTE_TIME).getCount() > 0);
+        assertTrue(metrics.getSnapshot(JalaliMetrics.Operation.COMPUTE_FIELDS).getCount() > 0);
+
+        metrics.removeListener(listener);
+        JalaliUtil.parseJalaliDate("1403/01/15", "yyyy/MM/dd");
+        assertEquals(2, parses.get());
+
+        JalaliMetrics.uninstall();
+        JalaliUtil.gregorianToJalali(new Date());
+        assertEquals(2, metrics.getSnapshot(JalaliMetrics.Operation.GREGORIAN_TO_JALALI).getCount());
+        metrics.reset();
+        assertEquals(0, metrics.getSnapshot(JalaliMetrics.Operation.GREGORIAN_TO_JALALI).getCount());
+    }
+
+    @Test
+    public void histogram() {
+        JalaliMetrics metrics = new JalaliMetrics();
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            metrics.record(JalaliMetrics.Operation.PARSE, start);
+        }
+        JalaliMetrics.Snapshot snapshot = metrics.getSnapshot(JalaliMetrics.Operation.PARSE);
+        assertEquals(100, snapshot.getCount());
+        long bucketCounts = 0;
+        for (int bucket = 0; bucket < JalaliMetrics.BUCKETS; bucket++) {
+            bucketCounts += snapshot.getBucketCount(bucket);
+        }
+        assertEquals(100, bucketCounts);
+        long p50 = snapshot.getPercentileNanos(50);
+        assertTrue(p50 <= snapshot.getPercentileNanos(100));
+        assertTrue(snapshot.getPercentileNanos(100) >= snapshot.getTotalNanos() / 100);
+        assertEquals(0, metrics.getSnapshot(JalaliMetrics.Operation.COMPUTE_TIME).getPercentileNanos(99));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileNanos(101));
+    }
+}
@@ -0,0 +1,55 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliPeriodTest {
+
+    @Test
+    public void between() {
+        JalaliDate start = new JalaliDate(1403, 6, 31, 10, 0, 0);
+        JalaliDate end = new JalaliDate(1404, 8, 1, 10, 0, 0);
+        assertEquals(JalaliPeriod.of(1, 1, 1), JalaliPeriod.between(start, end));
+        assertEquals(JalaliPeriod.of(1, 1, 0), JalaliPeriod.between(start, end, true));
+        assertEquals(JalaliPeriod.of(-1, -1, -1), JalaliPeriod.between(end, start));
+        assertEquals(JalaliPeriod.of(0, 0, 30), JalaliPeriod.between(start, new JalaliDate(1403, 7, 30, 12, 0, 0),
+                true));
+        assertEquals(JalaliPeriod.of(0, 11, 29),
+                JalaliPeriod.between(JalaliDay.of(1403, 1, 1), JalaliDay.of(1403, 12, 30)));
+        assertSame(JalaliPeriod.ZERO, JalaliPeriod.between(start, start));
+    }
+
+    @Test
+    public void addingTheMonthsAndDaysLeavesLessThanADay() {
+        TimeZone timeZone = TimeZone.getDefault();
+        JalaliDate start = new JalaliDate(1402, 11, 30, 8, 0, 0, 0, timeZone);
+        for (int days = -400; days <= 400; days += 7) {
+            JalaliCalendar endCalendar = new JalaliCalendar(start);
+            endCalendar.add(Calendar.DAY_OF_MONTH, days);
+            endCalendar.add(Calendar.HOUR_OF_DAY, 3);
+            JalaliDate end = endCalendar.getJalaliDate();
+            for (boolean calcOverflow : new boolean[]{false, true}) {
+                JalaliPeriod period = JalaliPeriod.between(start, end, calcOverflow);
+                JalaliCalendar jalaliCalendar = new JalaliCalendar(start);
+                jalaliCalendar.setCalcOverflow(calcOverflow);
+                jalaliCalendar.add(Calendar.MONTH, (int) period.toTotalMonths());
+                jalaliCalendar.add(Calendar.DAY_OF_MONTH, period.getDays());
+                long rest = JalaliUtil.localMillis(end) - JalaliUtil.localMillis(jalaliCalendar.getJalaliDate());
+                assertEquals(days < 0 ? -21 : 3, rest / 3600000, period.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("P0D", JalaliPeriod.ZERO.toString());
+        assertEquals("P1Y2M3D", JalaliPeriod.of(1, 2, 3).toString());
+        assertEquals("P-1M", JalaliPeriod.of(0, -1, 0).toString());
+        assertTrue(JalaliPeriod.of(0, -1, 0).isNegative());
+        assertTrue(JalaliPeriod.of(0, 0, 0).isZero());
+    }
+}
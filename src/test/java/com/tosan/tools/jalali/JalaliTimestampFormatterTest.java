@@ -0,0 +1,49 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JalaliTimestampFormatterTest {
+
+    @Test
+    public void format() {
+        JalaliTimestampFormatter formatter = new JalaliTimestampFormatter(TimeZone.getTimeZone("Asia/Tehran"));
+        long millis = LocalDateTime.of(2024, 4, 3, 10, 20, 30, 456_000_000).atZone(ZoneId.of("Asia/Tehran"))
+                .toInstant().toEpochMilli();
+        assertEquals("1403/01/15 10:20:30.456", formatter.format(millis));
+        assertEquals("1403/01/15 10:20:30.007", formatter.format(millis - 449));
+        assertEquals("1403/01/15 10:20:31.000", formatter.format(millis + 544));
+        assertEquals("1403/01/15 10:20:30.999", formatter.format(millis + 543));
+
+        StringBuilder sb = new StringBuilder("[");
+        assertSame(sb, formatter.format(millis, sb));
+        assertEquals("[1403/01/15 10:20:30.456", sb.toString());
+
+        byte[] bytes = new byte[JalaliTimestampFormatter.LENGTH + 2];
+        assertEquals(JalaliTimestampFormatter.LENGTH + 1, formatter.format(millis, bytes, 1));
+        assertEquals("1403/01/15 10:20:30.456",
+                new String(bytes, 1, JalaliTimestampFormatter.LENGTH, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void formatMatchesTheZone() {
+        for (String id : new String[]{"UTC", "America/New_York", "Asia/Tehran"}) {
+            ZoneId zone = ZoneId.of(id);
+            JalaliTimestampFormatter formatter = new JalaliTimestampFormatter(TimeZone.getTimeZone(zone));
+            for (long millis = -100_000_000_000L; millis < 2_000_000_000_000L; millis += 987_654_321L) {
+                LocalDateTime local = Instant.ofEpochMilli(millis).atZone(zone).toLocalDateTime();
+                int jalali = JalaliUtil.fromEpochDay(local.toLocalDate().toEpochDay());
+                String expected = new JalaliDate(jalali / 10000, jalali / 100 % 100, jalali % 100, local.getHour(),
+                        local.getMinute(), local.getSecond()) + String.format(".%03d", local.getNano() / 1_000_000);
+                assertEquals(expected, formatter.format(millis), id + " " + millis);
+            }
+        }
+    }
+}
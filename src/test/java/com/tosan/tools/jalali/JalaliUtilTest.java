@@ -3,8 +3,12 @@ package com.tosan.tools.jalali;
 import org.junit.jupiter.api.Test;
 
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +33,25 @@ public class JalaliUtilTest {
         }
     }
 
+    @Test
+    public void checkLeapYearOutsideSupportedRange() {
+        assertTrue(JalaliUtil.isLeapYear(974));
+        assertFalse(JalaliUtil.isLeapYear(978));
+        assertTrue(JalaliUtil.isLeapYear(9983));
+        assertFalse(JalaliUtil.isLeapYear(9980));
+    }
+
+    @Test
+    public void leapYearsMatchTheConversion() {
+        for (int year = JalaliUtil.MIN_YEAR - 100; year <= JalaliUtil.MAX_YEAR + 100; year++) {
+            long length = JalaliUtil.toEpochDay(year + 1, 1, 1) - JalaliUtil.toEpochDay(year, 1, 1);
+            assertEquals(length == 366, JalaliUtil.isLeapYear(year), String.valueOf(year));
+            long lastDay = JalaliUtil.toEpochDay(year, 12, 1) + length - 337;
+            assertEquals(year * 10000 + 1200 + length - 336, JalaliUtil.fromEpochDay(lastDay));
+            assertEquals(year * 10000 + 101, JalaliUtil.fromEpochDay(lastDay - length + 1));
+        }
+    }
+
     @Test
     public void convertGregorianToJalali() {
         Calendar calendar = Calendar.getInstance();
@@ -52,4 +75,113 @@ public class JalaliUtilTest {
         JalaliDate newJalaliDate = JalaliUtil.parseJalaliDate("1383/9/19, 15:14", "yyyy/MM/dd, HH:mm");
         assertEquals(jalaliDate, newJalaliDate);
     }
+
+    @Test
+    public void epochDay() {
+        assertEquals(0, JalaliUtil.toEpochDay(1348, 10, 11));
+        assertEquals(19802, JalaliUtil.toEpochDay(1403, 1, 1));
+        assertEquals(13481011, JalaliUtil.fromEpochDay(0));
+        assertEquals(14030101, JalaliUtil.fromEpochDay(19802));
+        assertEquals(14031230, JalaliUtil.fromEpochDay(20167));
+        assertEquals(14040101, JalaliUtil.fromEpochDay(20168));
+    }
+
+    @Test
+    public void epochDayIsLenient() {
+        assertEquals(JalaliUtil.toEpochDay(1403, 1, 1), JalaliUtil.toEpochDay(1402, 13, 1));
+        assertEquals(JalaliUtil.toEpochDay(1403, 2, 1), JalaliUtil.toEpochDay(1403, 1, 32));
+        assertEquals(JalaliUtil.toEpochDay(1402, 12, 1), JalaliUtil.toEpochDay(1403, 0, 1));
+    }
+
+    @Test
+    public void epochDayRoundTrip() {
+        for (long epochDay = JalaliUtil.toEpochDay(979, 1, 1); epochDay < JalaliUtil.toEpochDay(1600, 1, 1); epochDay++) {
+            int packed = JalaliUtil.fromEpochDay(epochDay);
+            assertEquals(epochDay, JalaliUtil.toEpochDay(packed / 10000, packed / 100 % 100, packed % 100));
+        }
+    }
+
+    @Test
+    public void bulkConversion() {
+        TimeZone zone = TimeZone.getTimeZone("Asia/Tehran");
+        long[] millis = new long[BulkConversionTask.THRESHOLD * 5 + 3];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = -2_000_000_000_000L + i * 45_678_901L;
+        }
+        int[] packed = new int[millis.length];
+        JalaliUtil.toJalali(millis, zone, packed);
+        for (int i = 0; i < millis.length; i++) {
+            LocalDate localDate = Instant.ofEpochMilli(millis[i]).atZone(zone.toZoneId()).toLocalDate();
+            assertEquals(JalaliUtil.fromEpochDay(localDate.toEpochDay()), packed[i]);
+        }
+
+        long[] startOfDays = new long[packed.length];
+        JalaliUtil.toEpochMillis(packed, zone, startOfDays);
+        for (int i = 0; i < packed.length; i++) {
+            LocalDate localDate = Instant.ofEpochMilli(millis[i]).atZone(zone.toZoneId()).toLocalDate();
+            assertEquals(localDate.atStartOfDay(zone.toZoneId()).toInstant().toEpochMilli(), startOfDays[i]);
+        }
+    }
+
+    @Test
+    public void bulkConversionOfDifferentLengths() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JalaliUtil.toJalali(new long[2], TimeZone.getDefault(), new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> JalaliUtil.toEpochMillis(new int[1], TimeZone.getDefault(), new long[2]));
+    }
+
+    @Test
+    public void daysMonthsAndYearsBetween() {
+        JalaliDate start = new JalaliDate(1403, 6, 31, 10, 0, 0);
+        assertEquals(0, JalaliUtil.daysBetween(start, new JalaliDate(1403, 7, 1, 9, 59, 59, 999)));
+        assertEquals(1, JalaliUtil.daysBetween(start, new JalaliDate(1403, 7, 1, 10, 0, 0)));
+        assertEquals(-1, JalaliUtil.daysBetween(start, new JalaliDate(1403, 6, 30, 9, 0, 0)));
+        assertEquals(366, JalaliUtil.daysBetween(new JalaliDate(1403, 1, 1), new JalaliDate(1404, 1, 1)));
+
+        JalaliDate endOfMehr = new JalaliDate(1403, 7, 30, 10, 0, 0);
+        assertEquals(1, JalaliUtil.monthsBetween(start, endOfMehr));
+        assertEquals(0, JalaliUtil.monthsBetween(start, endOfMehr, true));
+        assertEquals(1, JalaliUtil.monthsBetween(start, new JalaliDate(1403, 8, 1, 10, 0, 0), true));
+        assertEquals(0, JalaliUtil.monthsBetween(start, new JalaliDate(1403, 7, 30, 9, 0, 0)));
+        assertEquals(-1, JalaliUtil.monthsBetween(endOfMehr, start));
+        assertEquals(-1, JalaliUtil.monthsBetween(endOfMehr, new JalaliDate(1403, 6, 30, 10, 0, 0)));
+        assertEquals(0, JalaliUtil.monthsBetween(new JalaliDate(1403, 7, 29, 10, 0, 0),
+                new JalaliDate(1403, 6, 29, 11, 0, 0)));
+
+        JalaliDate endOf1403 = new JalaliDate(1403, 12, 30);
+        assertEquals(1, JalaliUtil.yearsBetween(endOf1403, new JalaliDate(1404, 12, 29)));
+        assertEquals(0, JalaliUtil.yearsBetween(endOf1403, new JalaliDate(1404, 12, 29), true));
+        assertEquals(-1, JalaliUtil.yearsBetween(new JalaliDate(1404, 12, 29), new JalaliDate(1403, 12, 30)));
+        assertEquals(-12, JalaliUtil.monthsBetween(new JalaliDate(1404, 12, 29), new JalaliDate(1403, 12, 29)));
+    }
+
+    @Test
+    public void monthsBetweenMatchesCalendarAdd() {
+        TimeZone timeZone = TimeZone.getDefault();
+        Random random = new Random(19);
+        for (int i = 0; i < 2000; i++) {
+            long startDay = JalaliUtil.toEpochDay(1400, 1, 1) + random.nextInt(2000);
+            int startPacked = JalaliUtil.fromEpochDay(startDay);
+            int endPacked = JalaliUtil.fromEpochDay(startDay + random.nextInt(1500) - 750);
+            JalaliDate start = new JalaliDate(startPacked / 10000, startPacked / 100 % 100, startPacked % 100,
+                    12, 0, 0, 0, timeZone);
+            JalaliDate end = new JalaliDate(endPacked / 10000, endPacked / 100 % 100, endPacked % 100,
+                    random.nextInt(24), 0, 0, 0, timeZone);
+            for (boolean calcOverflow : new boolean[]{false, true}) {
+                long months = JalaliUtil.monthsBetween(start, end, calcOverflow);
+                int direction = start.compareTo(end) <= 0 ? 1 : -1;
+                assertTrue(direction * compareToEnd(start, (int) months, calcOverflow, end) <= 0);
+                assertTrue(direction * compareToEnd(start, (int) months + direction, calcOverflow, end) > 0);
+                assertEquals(months / 12, JalaliUtil.yearsBetween(start, end, calcOverflow));
+            }
+        }
+    }
+
+    private static int compareToEnd(JalaliDate start, int months, boolean calcOverflow, JalaliDate end) {
+        JalaliCalendar jalaliCalendar = new JalaliCalendar(start);
+        jalaliCalendar.setCalcOverflow(calcOverflow);
+        jalaliCalendar.add(Calendar.MONTH, months);
+        return Long.compare(JalaliUtil.localMillis(jalaliCalendar.getJalaliDate()), JalaliUtil.localMillis(end));
+    }
 }
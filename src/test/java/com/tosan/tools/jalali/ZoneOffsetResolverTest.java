@@ -0,0 +1,70 @@
+package com.tosan.tools.jalali;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneOffsetResolverTest {
+
+    @Test
+    public void offset() {
+        for (String id : new String[]{"Asia/Tehran", "Europe/Berlin", "America/New_York", "Asia/Kolkata", "UTC"}) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            ZoneOffsetResolver resolver = ZoneOffsetResolver.of(zone);
+            for (long millis = -3_000_000_000_000L; millis < 5_000_000_000_000L; millis += 3_599_999L * 5) {
+                assertEquals(zone.getOffset(millis), resolver.getOffset(millis));
+            }
+        }
+    }
+
+    @Test
+    public void dstOffset() {
+        TimeZone custom = new SimpleTimeZone(3600000, "Custom", Calendar.MARCH, -1, Calendar.SUNDAY, 3600000,
+                Calendar.OCTOBER, -1, Calendar.SUNDAY, 3600000);
+        for (TimeZone zone : new TimeZone[]{TimeZone.getTimeZone("Asia/Tehran"), TimeZone.getTimeZone("Europe/Berlin"),
+                TimeZone.getTimeZone("Europe/Dublin"), TimeZone.getTimeZone("America/New_York"),
+                TimeZone.getTimeZone("UTC"), custom}) {
+            ZoneOffsetResolver resolver = ZoneOffsetResolver.of(zone);
+            GregorianCalendar calendar = new GregorianCalendar(zone);
+            for (long millis = -3_000_000_000_000L; millis < 5_000_000_000_000L; millis += 3_599_999L * 97) {
+                calendar.setTimeInMillis(millis);
+                assertEquals(calendar.get(Calendar.DST_OFFSET), resolver.getDstOffset(millis),
+                        zone.getID() + " " + millis);
+                assertEquals(calendar.get(Calendar.ZONE_OFFSET),
+                        resolver.getOffset(millis) - resolver.getDstOffset(millis));
+            }
+        }
+    }
+
+    @Test
+    public void offsetForLocal() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Berlin");
+        ZoneOffsetResolver resolver = ZoneOffsetResolver.of(zone);
+        int[][] localTimes = {{2021, 2, 28, 2, 30}, {2021, 9, 31, 2, 30}, {2021, 5, 1, 12, 0}};
+        for (int[] localTime : localTimes) {
+            GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+            calendar.clear();
+            calendar.set(localTime[0], localTime[1], localTime[2], localTime[3], localTime[4]);
+            long local = calendar.getTimeInMillis();
+            calendar.setTimeZone(zone);
+            calendar.set(localTime[0], localTime[1], localTime[2], localTime[3], localTime[4]);
+            assertEquals(calendar.getTimeInMillis(), local - resolver.getOffsetForLocal(local, false));
+        }
+
+        long overlap = 1635647400000L;
+        assertEquals(7200000, resolver.getOffsetForLocal(overlap, true));
+        assertEquals(3600000, resolver.getOffsetForLocal(overlap, false));
+    }
+
+    @Test
+    public void customZone() {
+        TimeZone zone = new SimpleTimeZone(3600000, "Asia/Tehran");
+        assertEquals(3600000, ZoneOffsetResolver.of(zone).getOffset(1711000000000L));
+        assertEquals(12600000, ZoneOffsetResolver.of(TimeZone.getTimeZone("Asia/Tehran")).getOffset(1711000000000L));
+    }
+}